@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.benchmark;
+
+import com.cronutils.mapper.CronMapper;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping between cron types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CronMapperBenchmark {
+    private CronMapper quartzToUnix;
+    private CronMapper unixToQuartz;
+    private CronMapper quartzToSpring;
+    private Cron quartzCron;
+    private Cron unixCron;
+
+    @Setup
+    public void setUp() {
+        quartzToUnix = CronMapper.fromQuartzToUnix();
+        unixToQuartz = CronMapper.fromUnixToQuartz();
+        quartzToSpring = CronMapper.fromQuartzToSpring();
+        quartzCron = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ)).parse("0 0/15 8-18 ? * MON-FRI *");
+        unixCron = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX)).parse("*/5 8-18 * * 1-5");
+    }
+
+    @Benchmark
+    public Cron quartzToUnix() {
+        return quartzToUnix.map(quartzCron);
+    }
+
+    @Benchmark
+    public Cron unixToQuartz() {
+        return unixToQuartz.map(unixCron);
+    }
+
+    @Benchmark
+    public Cron quartzToSpring() {
+        return quartzToSpring.map(quartzCron);
+    }
+}
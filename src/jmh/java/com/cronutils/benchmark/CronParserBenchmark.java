@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.benchmark;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a representative expression for each cron type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CronParserBenchmark {
+    private static final Map<CronType, String> EXPRESSIONS = new EnumMap<>(CronType.class);
+
+    static {
+        EXPRESSIONS.put(CronType.CRON4J, "0 12 * * 1-5");
+        EXPRESSIONS.put(CronType.QUARTZ, "0 0/15 8-18 ? * MON-FRI *");
+        EXPRESSIONS.put(CronType.UNIX, "*/5 8-18 1,15 * *");
+        EXPRESSIONS.put(CronType.SPRING, "0 0/15 8-18 * * MON-FRI");
+        EXPRESSIONS.put(CronType.SPRING53, "0 0 12 L * ?");
+    }
+
+    @Param({"CRON4J", "QUARTZ", "UNIX", "SPRING", "SPRING53"})
+    private CronType cronType;
+
+    private CronParser parser;
+    private String expression;
+
+    @Setup
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType));
+        expression = EXPRESSIONS.get(cronType);
+    }
+
+    @Benchmark
+    public Cron parse() {
+        return parser.parse(expression);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.benchmark;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution time queries over representative Quartz expressions: every few minutes, business days,
+ * last day of month, nth day of week, nearest weekday and a leap day that fires once every four years.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionTimeBenchmark {
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+
+    @Param({"0 0/15 * * * ?", "0 0 12 ? * MON-FRI", "0 0 12 L * ?", "0 0 12 ? * 6#3", "0 0 12 15W * ?", "0 0 0 29 2 ? *"})
+    private String expression;
+
+    private ExecutionTime executionTime;
+    private ExecutionTime compositeExecutionTime;
+    private ZonedDateTime date;
+    private ZonedDateTime matchingDate;
+    private ZonedDateTime weekLater;
+
+    @Setup
+    public void setUp() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        final Cron cron = parser.parse(expression);
+        executionTime = ExecutionTime.forCron(cron);
+        final List<Cron> crons = Arrays.asList(cron, parser.parse("0 30 9 ? * SAT,SUN"), parser.parse("0 0 0 1 1/3 ?"));
+        compositeExecutionTime = ExecutionTime.forCron(new CompositeCron(crons));
+        date = ZonedDateTime.of(2021, 6, 16, 10, 17, 31, 0, ZONE);
+        matchingDate = executionTime.nextExecution(date).orElse(date);
+        weekLater = date.plusWeeks(1);
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> nextExecution() {
+        return executionTime.nextExecution(date);
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> lastExecution() {
+        return executionTime.lastExecution(date);
+    }
+
+    @Benchmark
+    public boolean isMatch() {
+        return executionTime.isMatch(date);
+    }
+
+    @Benchmark
+    public boolean isMatchOnExecution() {
+        return executionTime.isMatch(matchingDate);
+    }
+
+    @Benchmark
+    public List<ZonedDateTime> getExecutionDatesOverWeek() {
+        return executionTime.getExecutionDates(date, weekLater);
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> compositeNextExecution() {
+        return compositeExecutionTime.nextExecution(date);
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> compositeLastExecution() {
+        return compositeExecutionTime.lastExecution(date);
+    }
+
+    @Benchmark
+    public boolean compositeIsMatch() {
+        return compositeExecutionTime.isMatch(date);
+    }
+}
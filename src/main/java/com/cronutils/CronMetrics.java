@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils;
+
+import com.cronutils.model.Cron;
+
+/**
+ * Listener for the cost of parsing crons and evaluating their execution times.
+ * Every method does nothing by default, so implementations override the events they need.
+ * Methods are called on the thread doing the work and should return quickly.
+ * {@link #NO_OP} disables reporting: instrumented code checks for it and skips taking times.
+ */
+public interface CronMetrics {
+    CronMetrics NO_OP = new CronMetrics() {
+    };
+
+    enum Operation {
+        PARSE, NEXT_EXECUTION, LAST_EXECUTION, IS_MATCH
+    }
+
+    enum Cache {
+        /**
+         * Days of month a cron matches, kept per execution time.
+         */
+        DAYS_OF_MONTH,
+        /**
+         * Crons parsed by a parser built with a cache size.
+         */
+        PARSED_CRONS
+    }
+
+    /**
+     * Called when an operation completes, whatever its result.
+     *
+     * @param cron      - cron the operation ran on; null if parsing failed
+     * @param operation - operation performed
+     * @param nanos     - elapsed time, in nanoseconds
+     */
+    default void timed(final Cron cron, final Operation operation, final long nanos) {
+    }
+
+    /**
+     * Called once per call searching for the next or last execution, when it completes.
+     *
+     * @param cron       - cron searched; null if the execution time was not built from a cron
+     * @param operation  - NEXT_EXECUTION or LAST_EXECUTION
+     * @param iterations - search steps taken over the whole call, including any search it falls back to
+     */
+    default void searched(final Cron cron, final Operation operation, final int iterations) {
+    }
+
+    /**
+     * Called once per call searching for the next or last execution, when it finds none.
+     *
+     * @param cron      - cron searched; null if the execution time was not built from a cron
+     * @param operation - NEXT_EXECUTION or LAST_EXECUTION
+     */
+    default void noSuchValue(final Cron cron, final Operation operation) {
+    }
+
+    /**
+     * Called when a lookup is answered from a cache.
+     *
+     * @param cron  - cron the lookup was made for; null if the execution time was not built from a cron
+     * @param cache - cache looked up
+     */
+    default void cacheHit(final Cron cron, final Cache cache) {
+    }
+
+    /**
+     * Called when a lookup is not found in a cache, before the value is computed.
+     *
+     * @param cron  - cron the lookup was made for; null if not parsed yet, or if the execution time was not built from a cron
+     * @param cache - cache looked up
+     */
+    default void cacheMiss(final Cron cron, final Cache cache) {
+    }
+}
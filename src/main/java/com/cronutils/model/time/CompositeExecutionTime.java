@@ -1,34 +1,111 @@
 package com.cronutils.model.time;
 
+import com.cronutils.CronMetrics;
+import com.cronutils.model.Cron;
 import com.cronutils.utils.Preconditions;
 
 import java.time.Duration;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
+/**
+ * Execution time of a composite cron: executes whenever any of its members does.
+ * Members are evaluated sequentially on the calling thread, unless an executor is given;
+ * the executor is only worth it for composites with many members.
+ */
 public class CompositeExecutionTime implements ExecutionTime {
     private List<ExecutionTime> executionTimes;
+    private final Executor executor;
+    private final Cron cron;
+    private final CronMetrics metrics;
 
     public CompositeExecutionTime(List<ExecutionTime> executionTimes){
+        this(executionTimes, null);
+    }
+
+    /**
+     * @param executionTimes - members of the composite. If null or empty, an exception will be raised.
+     * @param executor - executor to evaluate members in parallel with; null to evaluate them sequentially.
+     */
+    public CompositeExecutionTime(List<ExecutionTime> executionTimes, Executor executor){
+        this(executionTimes, executor, null, CronMetrics.NO_OP);
+    }
+
+    /**
+     * @param cron - composite cron reported to metrics; may be null.
+     * @param metrics - listener for the time spent per call. If null, a NullPointerException will be raised.
+     */
+    CompositeExecutionTime(List<ExecutionTime> executionTimes, Executor executor, Cron cron, CronMetrics metrics){
         Preconditions.checkNotNullNorEmpty(executionTimes, "ExecutionTime list cannot be null or empty");
         this.executionTimes = Collections.unmodifiableList(executionTimes);
+        this.executor = executor;
+        this.cron = cron;
+        this.metrics = Preconditions.checkNotNull(metrics, "Metrics must not be null");
     }
 
     @Override
     public Optional<ZonedDateTime> nextExecution(ZonedDateTime date) {
-        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.nextExecution(date)).filter(Optional::isPresent).sorted(
-                (o1, o2) -> {
-                    if(o1.isPresent() && o2.isPresent()){
-                        ZonedDateTime first = o1.get();
-                        ZonedDateTime second = o2.get();
-                        return first.compareTo(second);
-                    }
-                    return 0;
-                }
-        ).findFirst();
-        return next.orElseGet(Optional::empty);
+        if (metrics == CronMetrics.NO_OP) {
+            return searchNextExecution(date);
+        }
+        final long start = System.nanoTime();
+        final Optional<ZonedDateTime> next = searchNextExecution(date);
+        metrics.timed(cron, CronMetrics.Operation.NEXT_EXECUTION, System.nanoTime() - start);
+        return next;
+    }
+
+    private Optional<ZonedDateTime> searchNextExecution(ZonedDateTime date) {
+        if (executor != null) {
+            return evaluateInParallel(e -> e.nextExecution(date)).stream()
+                    .reduce(Optional.empty(), CompositeExecutionTime::earliest);
+        }
+        Optional<ZonedDateTime> next = Optional.empty();
+        for (int i = 0; i < executionTimes.size(); i++) {
+            next = earliest(next, executionTimes.get(i).nextExecution(date));
+        }
+        return next;
+    }
+
+    /**
+     * Traces each member in turn; the trace adds up their work and holds the earliest execution.
+     */
+    @Override
+    public SearchTrace explainNext(ZonedDateTime date) {
+        final SearchTrace trace = new SearchTrace();
+        for (ExecutionTime executionTime : executionTimes) {
+            trace.add(executionTime.explainNext(date));
+        }
+        return trace;
+    }
+
+    @Override
+    public long nextExecutionEpochSecond(long epochSecond, ZoneId zone) {
+        if (metrics == CronMetrics.NO_OP) {
+            return searchNextExecutionEpochSecond(epochSecond, zone);
+        }
+        final long start = System.nanoTime();
+        final long next = searchNextExecutionEpochSecond(epochSecond, zone);
+        metrics.timed(cron, CronMetrics.Operation.NEXT_EXECUTION, System.nanoTime() - start);
+        return next;
+    }
+
+    private long searchNextExecutionEpochSecond(long epochSecond, ZoneId zone) {
+        long next = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            long candidate = executionTime.nextExecutionEpochSecond(epochSecond, zone);
+            if (candidate != NO_EXECUTION && (next == NO_EXECUTION || candidate < next)) {
+                next = candidate;
+            }
+        }
+        return next;
     }
 
     @Override
@@ -39,16 +116,47 @@ public class CompositeExecutionTime implements ExecutionTime {
 
     @Override
     public Optional<ZonedDateTime> lastExecution(ZonedDateTime date) {
-        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.lastExecution(date)).filter(Optional::isPresent).sorted(
-                (o1, o2) -> {
-                    if(o1.isPresent() && o2.isPresent()){
-                        ZonedDateTime first = o1.get();
-                        ZonedDateTime second = o2.get();
-                        return second.compareTo(first);
-                    }
-                    return 0;
-                }).findFirst();
-        return next.orElseGet(Optional::empty);
+        if (metrics == CronMetrics.NO_OP) {
+            return searchLastExecution(date);
+        }
+        final long start = System.nanoTime();
+        final Optional<ZonedDateTime> last = searchLastExecution(date);
+        metrics.timed(cron, CronMetrics.Operation.LAST_EXECUTION, System.nanoTime() - start);
+        return last;
+    }
+
+    private Optional<ZonedDateTime> searchLastExecution(ZonedDateTime date) {
+        if (executor != null) {
+            return evaluateInParallel(e -> e.lastExecution(date)).stream()
+                    .reduce(Optional.empty(), CompositeExecutionTime::latest);
+        }
+        Optional<ZonedDateTime> last = Optional.empty();
+        for (int i = 0; i < executionTimes.size(); i++) {
+            last = latest(last, executionTimes.get(i).lastExecution(date));
+        }
+        return last;
+    }
+
+    @Override
+    public long lastExecutionEpochSecond(long epochSecond, ZoneId zone) {
+        if (metrics == CronMetrics.NO_OP) {
+            return searchLastExecutionEpochSecond(epochSecond, zone);
+        }
+        final long start = System.nanoTime();
+        final long last = searchLastExecutionEpochSecond(epochSecond, zone);
+        metrics.timed(cron, CronMetrics.Operation.LAST_EXECUTION, System.nanoTime() - start);
+        return last;
+    }
+
+    private long searchLastExecutionEpochSecond(long epochSecond, ZoneId zone) {
+        long last = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            long candidate = executionTime.lastExecutionEpochSecond(epochSecond, zone);
+            if (candidate > last) {
+                last = candidate;
+            }
+        }
+        return last;
     }
 
     @Override
@@ -58,6 +166,60 @@ public class CompositeExecutionTime implements ExecutionTime {
 
     @Override
     public boolean isMatch(ZonedDateTime date) {
-        return executionTimes.parallelStream().map(e->e.isMatch(date)).filter(v-> v).count()>0;
+        if (metrics == CronMetrics.NO_OP) {
+            return matches(date);
+        }
+        final long start = System.nanoTime();
+        final boolean match = matches(date);
+        metrics.timed(cron, CronMetrics.Operation.IS_MATCH, System.nanoTime() - start);
+        return match;
+    }
+
+    private boolean matches(ZonedDateTime date) {
+        if (executor != null) {
+            return evaluateInParallel(e -> e.isMatch(date)).contains(Boolean.TRUE);
+        }
+        for (int i = 0; i < executionTimes.size(); i++) {
+            if (executionTimes.get(i).isMatch(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> List<T> evaluateInParallel(Function<ExecutionTime, T> evaluation) {
+        final List<CompletableFuture<T>> futures = new ArrayList<>(executionTimes.size());
+        for (ExecutionTime executionTime : executionTimes) {
+            futures.add(CompletableFuture.supplyAsync(() -> evaluation.apply(executionTime), executor));
+        }
+        final List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * On ties, keeps the first value, as the members are ordered.
+     */
+    private static Optional<ZonedDateTime> earliest(Optional<ZonedDateTime> current, Optional<ZonedDateTime> candidate) {
+        if (!candidate.isPresent()) {
+            return current;
+        }
+        return current.isPresent() && current.get().compareTo(candidate.get()) <= 0 ? current : candidate;
+    }
+
+    private static Optional<ZonedDateTime> latest(Optional<ZonedDateTime> current, Optional<ZonedDateTime> candidate) {
+        if (!candidate.isPresent()) {
+            return current;
+        }
+        return current.isPresent() && current.get().compareTo(candidate.get()) >= 0 ? current : candidate;
     }
 }
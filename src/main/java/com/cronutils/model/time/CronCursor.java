@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * Stateful cursor over the executions of a cron on a zone, ascending.
+ * Each step starts from the execution returned by the previous one, so enumerating many executions
+ * does not repeat the search from scratch. Not thread safe.
+ */
+public interface CronCursor {
+
+    /**
+     * Moves to the next execution.
+     *
+     * @return next execution as seconds since the epoch, or {@link ExecutionTime#NO_EXECUTION} if there are no further executions.
+     */
+    long nextEpochSecond();
+
+    /**
+     * @return zone the cron executes on, never null.
+     */
+    ZoneId getZone();
+
+    /**
+     * Moves to the next execution.
+     *
+     * @return Optional ZonedDateTime instance, never null. Contains next execution time or empty.
+     */
+    default Optional<ZonedDateTime> next() {
+        final long next = nextEpochSecond();
+        if (next == ExecutionTime.NO_EXECUTION) {
+            return Optional.empty();
+        }
+        return Optional.of(ZonedDateTime.ofInstant(Instant.ofEpochSecond(next), getZone()));
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.field.expression.And;
+import com.cronutils.model.field.expression.Between;
+import com.cronutils.model.field.expression.Every;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.expression.QuestionMark;
+import com.cronutils.model.field.value.IntegerFieldValue;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Indexes crons by the values of their fields, to find which of them execute at a given date without
+ * evaluating each one.
+ * For every value of seconds, minutes, hours, months and days of month, a bitset holds the crons allowing it;
+ * the crons matching a date are the intersection of the bitsets for its values.
+ * Crons whose days depend on the year, month or day of week (L, W, #, days of week, days of year, years)
+ * are only indexed on their time and month fields, and candidates are confirmed with {@link ExecutionTime#isMatch(ZonedDateTime)}.
+ * Crons are compared by identity. Safe for concurrent use.
+ */
+public class CronRegistry {
+    private static final long OFFSET_STABILITY_MARGIN = LocalFields.SECONDS_PER_DAY;
+
+    private final BitSet[] seconds = postings(60);
+    private final BitSet[] minutes = postings(60);
+    private final BitSet[] hours = postings(24);
+    private final BitSet[] months = postings(13);
+    private final BitSet[] daysOfMonth = postings(32);
+    /**
+     * Crons whose days are not indexed, so candidates need an {@link ExecutionTime#isMatch(ZonedDateTime)} check.
+     */
+    private final BitSet needsVerification = new BitSet();
+    private final BitSet registered = new BitSet();
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Cron, Integer> ids = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a cron to the registry. Crons are keyed on identity, as they do not define equality: an equal cron
+     * parsed again is a different entry. A {@link com.cronutils.parser.CronParser} with a cache may or may not
+     * return the same instance for the same expression, so keep the instance added to remove it later.
+     *
+     * @param cron - Cron instance. If null, a NullPointerException will be raised.
+     * @return true if the cron was added, false if it was already registered.
+     */
+    public boolean add(final Cron cron) {
+        Preconditions.checkNotNull(cron, "Cron must not be null");
+        final Entry entry = new Entry(cron, ExecutionTime.forCron(cron));
+        lock.writeLock().lock();
+        try {
+            if (ids.containsKey(cron)) {
+                return false;
+            }
+            final int id = registered.nextClearBit(0);
+            if (id == entries.size()) {
+                entries.add(entry);
+            } else {
+                entries.set(id, entry);
+            }
+            ids.put(cron, id);
+            registered.set(id);
+            post(entry, id, true);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a cron from the registry. The cron must be the instance that was added, see {@link #add(Cron)}.
+     *
+     * @param cron - Cron instance. If null, a NullPointerException will be raised.
+     * @return true if the cron was removed, false if it was not registered.
+     */
+    public boolean remove(final Cron cron) {
+        Preconditions.checkNotNull(cron, "Cron must not be null");
+        lock.writeLock().lock();
+        try {
+            final Integer id = ids.remove(cron);
+            if (id == null) {
+                return false;
+            }
+            post(entries.get(id), id, false);
+            entries.set(id, null);
+            registered.clear(id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Provide crons that execute at given date, as {@link ExecutionTime#isMatch(ZonedDateTime)} would report.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return list of matching crons, never null.
+     */
+    public List<Cron> findMatching(final ZonedDateTime date) {
+        Preconditions.checkNotNull(date, "Date must not be null");
+        final boolean offsetStable = isOffsetStable(date);
+        final List<Cron> matching = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            final BitSet candidates = (BitSet) seconds[date.getSecond()].clone();
+            candidates.and(minutes[date.getMinute()]);
+            candidates.and(hours[date.getHour()]);
+            candidates.and(months[date.getMonthValue()]);
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                final Entry entry = entries.get(id);
+                if (offsetStable && !needsVerification.get(id) && entry.isWithinYears(date.getYear())) {
+                    if (daysOfMonth[date.getDayOfMonth()].get(id)) {
+                        matching.add(entry.cron);
+                    }
+                } else if (entry.executionTime.isMatch(date)) {
+                    matching.add(entry.cron);
+                }
+            }
+            return matching;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of registered crons.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void post(final Entry entry, final int id, final boolean value) {
+        post(seconds, entry.seconds, id, value);
+        post(minutes, entry.minutes, id, value);
+        post(hours, entry.hours, id, value);
+        post(months, entry.months, id, value);
+        post(daysOfMonth, entry.daysOfMonth, id, value);
+        needsVerification.set(id, value && entry.daysOfMonth == 0);
+    }
+
+    private static void post(final BitSet[] postings, final long mask, final int id, final boolean value) {
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            postings[Long.numberOfTrailingZeros(remaining)].set(id, value);
+        }
+    }
+
+    private static BitSet[] postings(final int size) {
+        final BitSet[] postings = new BitSet[size];
+        for (int j = 0; j < size; j++) {
+            postings[j] = new BitSet();
+        }
+        return postings;
+    }
+
+    /**
+     * Local date-times near a zone offset transition may be skipped or repeated; such dates are always verified.
+     */
+    private static boolean isOffsetStable(final ZonedDateTime date) {
+        final ZoneRules rules = date.getZone().getRules();
+        if (rules.isFixedOffset()) {
+            return true;
+        }
+        final long epochSecond = date.toEpochSecond();
+        final ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(epochSecond - OFFSET_STABILITY_MARGIN));
+        return transition == null || transition.toEpochSecond() > epochSecond + OFFSET_STABILITY_MARGIN;
+    }
+
+    private static final class Entry {
+        private static final long ALL_SECONDS = (1L << 60) - 1;
+        private static final long ALL_MINUTES = (1L << 60) - 1;
+        private static final long ALL_HOURS = (1L << 24) - 1;
+        private static final long ALL_MONTHS = ((1L << 12) - 1) << 1;
+
+        private final Cron cron;
+        private final ExecutionTime executionTime;
+        private final long seconds;
+        private final long minutes;
+        private final long hours;
+        private final long months;
+        /**
+         * Days of month the cron executes on, if the same for every month; zero if the cron has to be verified.
+         */
+        private final long daysOfMonth;
+        private final int minYear;
+        private final int maxYear;
+
+        private Entry(final Cron cron, final ExecutionTime executionTime) {
+            this.cron = cron;
+            this.executionTime = executionTime;
+            final CronDefinition cronDefinition = cron.getCronDefinition();
+            if (cronDefinition.containsFieldDefinition(CronFieldName.YEAR)) {
+                this.minYear = cronDefinition.getFieldDefinition(CronFieldName.YEAR).getConstraints().getStartRange();
+                this.maxYear = cronDefinition.getFieldDefinition(CronFieldName.YEAR).getConstraints().getEndRange();
+            } else {
+                this.minYear = Integer.MIN_VALUE;
+                this.maxYear = Integer.MAX_VALUE;
+            }
+            if (executionTime instanceof SingleExecutionTime) {
+                final SingleExecutionTime singleExecutionTime = (SingleExecutionTime) executionTime;
+                // isMatch truncates dates to minutes when the cron has no seconds field
+                this.seconds = cronDefinition.containsFieldDefinition(CronFieldName.SECOND)
+                        ? singleExecutionTime.getSeconds().getMask() : ALL_SECONDS;
+                this.minutes = singleExecutionTime.getMinutes().getMask();
+                this.hours = singleExecutionTime.getHours().getMask();
+                this.months = singleExecutionTime.getMonths().getMask();
+                // days of a month with 31 days; shorter months never reach the missing days
+                this.daysOfMonth = hasStaticDaysOfMonth(cron) ? singleExecutionTime.daysOfMonthMask(2000, 1) : 0;
+            } else {
+                this.seconds = ALL_SECONDS;
+                this.minutes = ALL_MINUTES;
+                this.hours = ALL_HOURS;
+                this.months = ALL_MONTHS;
+                this.daysOfMonth = 0;
+            }
+        }
+
+        /**
+         * Years outside the range allowed by the cron definition are left to isMatch.
+         */
+        private boolean isWithinYears(final int year) {
+            return year >= minYear && year <= maxYear;
+        }
+
+        /**
+         * Whether days of month are the same for every year and month: no year restriction,
+         * no days of week or days of year, and no special characters on days of month.
+         */
+        private static boolean hasStaticDaysOfMonth(final Cron cron) {
+            final CronDefinition cronDefinition = cron.getCronDefinition();
+            if (!cronDefinition.containsFieldDefinition(CronFieldName.DAY_OF_MONTH)) {
+                return false;
+            }
+            return isUnrestricted(cron.retrieve(CronFieldName.YEAR), false)
+                    && isUnrestricted(cron.retrieve(CronFieldName.DAY_OF_YEAR), true)
+                    && isUnrestricted(cron.retrieve(CronFieldName.DAY_OF_WEEK), false)
+                    && isPlain(cron.retrieve(CronFieldName.DAY_OF_MONTH).getExpression());
+        }
+
+        private static boolean isUnrestricted(final CronField field, final boolean onlyQuestionMark) {
+            if (field == null || field.getExpression() instanceof QuestionMark) {
+                return true;
+            }
+            return !onlyQuestionMark && field.getExpression() instanceof Always;
+        }
+
+        private static boolean isPlain(final FieldExpression expression) {
+            if (expression instanceof Always || expression instanceof QuestionMark) {
+                return true;
+            }
+            if (expression instanceof On) {
+                return ((On) expression).getSpecialChar().getValue() == SpecialChar.NONE;
+            }
+            if (expression instanceof Between) {
+                return ((Between) expression).getFrom() instanceof IntegerFieldValue && ((Between) expression).getTo() instanceof IntegerFieldValue;
+            }
+            if (expression instanceof Every) {
+                return isPlain(((Every) expression).getExpression());
+            }
+            if (expression instanceof And) {
+                return ((And) expression).getExpressions().stream().allMatch(Entry::isPlain);
+            }
+            return false;
+        }
+    }
+}
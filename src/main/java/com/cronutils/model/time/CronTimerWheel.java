@@ -0,0 +1,276 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.utils.Preconditions;
+
+import java.time.ZoneId;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding cron driven timers, keyed by their next execution in epoch seconds.
+ * Each level has 64 slots; a slot on level n spans 64^n seconds. A timer is placed on the level of the highest
+ * 6 bit group in which its execution differs from the current time, and moved to lower levels as time gets closer.
+ * Scheduling and cancelling take constant time; advancing skips empty slots using an occupancy mask per level.
+ * When a timer fires it is re-armed with {@link ExecutionTime#nextExecutionEpochSecond(long, ZoneId)}.
+ * Not thread safe: meant to be owned by a single scheduling thread.
+ *
+ * @param <T> type of the values attached to timers
+ */
+public class CronTimerWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private final Timer<T>[][] slots;
+    private final long[] occupied = new long[LEVELS];
+    private long now;
+    private int size;
+    /**
+     * Timer being fired, detached from the wheel until the listener returns; null once cancelled.
+     */
+    private Timer<T> firing;
+
+    /**
+     * @param epochSecond - current time, as seconds since the epoch. Must not be negative.
+     */
+    public CronTimerWheel(final long epochSecond) {
+        Preconditions.checkArgument(epochSecond >= 0, "Time must not be before the epoch");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final Timer<T>[][] slots = new Timer[LEVELS][SLOTS];
+        this.slots = slots;
+        this.now = epochSecond;
+    }
+
+    /**
+     * Schedules a timer firing on each execution of given cron, starting after the current time.
+     *
+     * @param executionTime - ExecutionTime instance. If null, a NullPointerException will be raised.
+     * @param zone          - zone the cron executes on. If null, a NullPointerException will be raised.
+     * @param value         - value attached to the timer
+     * @return timer handle, never null. Not scheduled if the cron has no further executions.
+     */
+    public Timer<T> schedule(final ExecutionTime executionTime, final ZoneId zone, final T value) {
+        final Timer<T> timer = new Timer<>(Preconditions.checkNotNull(executionTime), Preconditions.checkNotNull(zone), value);
+        arm(timer, now);
+        return timer;
+    }
+
+    /**
+     * Cancels a timer, so it does not fire again.
+     *
+     * @param timer - timer returned by this wheel. If null, a NullPointerException will be raised.
+     * @return true if the timer was scheduled, false otherwise.
+     */
+    public boolean cancel(final Timer<T> timer) {
+        Preconditions.checkNotNull(timer);
+        if (timer == firing) {
+            firing = null;
+            return true;
+        }
+        if (timer.wheel != this) {
+            return false;
+        }
+        unlink(timer);
+        return true;
+    }
+
+    /**
+     * Moves current time forward, firing timers whose execution is at or before given time, in execution order.
+     * Fired timers are re-armed to their next execution before the following timers are considered, so a timer
+     * may fire several times in one call. Timers may be scheduled or cancelled from the listener.
+     *
+     * @param epochSecond - new current time, as seconds since the epoch. Must not be before the current time.
+     * @param listener    - called with each timer as it fires. If null, a NullPointerException will be raised.
+     */
+    public void advance(final long epochSecond, final Consumer<? super Timer<T>> listener) {
+        Preconditions.checkNotNull(listener);
+        Preconditions.checkArgument(epochSecond >= now, "Time must not move backwards");
+        long next = nextSlotStart();
+        while (next <= epochSecond) {
+            now = next;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((now & lowerBits(level)) == 0) {
+                    cascade(level, slotIndex(now, level));
+                }
+            }
+            fire(slotIndex(now, 0), listener);
+            next = nextSlotStart();
+        }
+        now = epochSecond;
+    }
+
+    /**
+     * @return current time, as seconds since the epoch
+     */
+    public long getCurrentEpochSecond() {
+        return now;
+    }
+
+    /**
+     * @return number of scheduled timers
+     */
+    public int size() {
+        return size;
+    }
+
+    private void arm(final Timer<T> timer, final long reference) {
+        final long execution = timer.executionTime.nextExecutionEpochSecond(reference, timer.zone);
+        if (execution != ExecutionTime.NO_EXECUTION) {
+            timer.execution = execution;
+            link(timer);
+        }
+    }
+
+    private void link(final Timer<T> timer) {
+        final int level = levelOf(timer.execution);
+        final int slot = slotIndex(timer.execution, level);
+        final Timer<T> head = slots[level][slot];
+        timer.level = level;
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        slots[level][slot] = timer;
+        occupied[level] |= 1L << slot;
+        timer.wheel = this;
+        size++;
+    }
+
+    private void unlink(final Timer<T> timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+            if (timer.next == null) {
+                occupied[timer.level] &= ~(1L << timer.slot);
+            }
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.wheel = null;
+        size--;
+    }
+
+    /**
+     * Moves timers of a slot reached by current time to lower levels.
+     */
+    private void cascade(final int level, final int slot) {
+        Timer<T> timer = slots[level][slot];
+        while (timer != null) {
+            final Timer<T> following = timer.next;
+            unlink(timer);
+            link(timer);
+            timer = following;
+        }
+    }
+
+    /**
+     * Fires the timers executing at current time, which are all in the current slot of the lowest level.
+     * Re-armed timers execute later, so they land in other slots.
+     */
+    private void fire(final int slot, final Consumer<? super Timer<T>> listener) {
+        Timer<T> timer;
+        while ((timer = slots[0][slot]) != null) {
+            unlink(timer);
+            firing = timer;
+            try {
+                listener.accept(timer);
+            } finally {
+                if (firing == timer) {
+                    firing = null;
+                    arm(timer, timer.execution);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return start of the earliest slot holding timers, Long.MAX_VALUE if there are none
+     */
+    private long nextSlotStart() {
+        for (int level = 0; level < LEVELS; level++) {
+            final int current = slotIndex(now, level);
+            final long later = current == SLOTS - 1 ? 0 : occupied[level] & (-2L << current);
+            if (later != 0) {
+                final long slot = Long.numberOfTrailingZeros(later);
+                return (now & ~lowerBits(level + 1)) | slot << (SLOT_BITS * level);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private int levelOf(final long execution) {
+        final int highestDifferentBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(execution ^ now);
+        return highestDifferentBit < 0 ? 0 : highestDifferentBit / SLOT_BITS;
+    }
+
+    private static int slotIndex(final long epochSecond, final int level) {
+        return (int) (epochSecond >>> (SLOT_BITS * level)) & (SLOTS - 1);
+    }
+
+    /**
+     * @return mask of the bits below given level
+     */
+    private static long lowerBits(final int level) {
+        final int bits = SLOT_BITS * level;
+        return bits >= Long.SIZE ? -1L : (1L << bits) - 1;
+    }
+
+    /**
+     * Timer firing on each execution of a cron. Handle to cancel it from its wheel.
+     *
+     * @param <T> type of the attached value
+     */
+    public static final class Timer<T> {
+        private final ExecutionTime executionTime;
+        private final ZoneId zone;
+        private final T value;
+        private long execution;
+        private CronTimerWheel<T> wheel;
+        private Timer<T> previous;
+        private Timer<T> next;
+        private int level;
+        private int slot;
+
+        private Timer(final ExecutionTime executionTime, final ZoneId zone, final T value) {
+            this.executionTime = executionTime;
+            this.zone = zone;
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * @return next execution, as seconds since the epoch; the current one while the timer fires.
+         */
+        public long getExecutionEpochSecond() {
+            return execution;
+        }
+
+        /**
+         * @return true if the timer is waiting for its next execution.
+         */
+        public boolean isScheduled() {
+            return wheel != null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.mapper.WeekDay;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
+import com.cronutils.utils.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Perpetual calendar for a day of week expression: the days of month it matches, by {@link YearType} and month.
+ * Months of the same year type share their layout, so each of the 168 entries is generated once, on first use,
+ * and every later month is resolved with a single lookup.
+ */
+final class DayOfWeekTable {
+    private final CronField cronField;
+    private final WeekDay mondayDoWValue;
+    /**
+     * Days of month by year type * 12 + month - 1. Bit 0, never a day, marks the entry as generated.
+     */
+    private final AtomicLongArray daysOfMonth = new AtomicLongArray(YearType.COUNT * 12);
+
+    /**
+     * Constructor.
+     *
+     * @param cronField      - day of week CronField. If null, a NullPointerException will be raised.
+     * @param mondayDoWValue - Monday value of the cron definition. If null, a NullPointerException will be raised.
+     */
+    DayOfWeekTable(final CronField cronField, final WeekDay mondayDoWValue) {
+        this.cronField = Preconditions.checkNotNull(cronField, "CronField must not be null");
+        this.mondayDoWValue = Preconditions.checkNotNull(mondayDoWValue, "Monday value must not be null");
+        Preconditions.checkArgument(CronFieldName.DAY_OF_WEEK.equals(cronField.getField()), "CronField does not belong to day of week");
+    }
+
+    /**
+     * @param year  - year
+     * @param month - month, from 1 to 12
+     * @return mask of the days of month matching the expression; bit n is set if day n matches.
+     */
+    long daysOfMonth(final int year, final int month) {
+        final int index = YearType.of(year) * 12 + month - 1;
+        long entry = daysOfMonth.get(index);
+        if (entry == 0) {
+            entry = generate(YearType.representativeYear(YearType.of(year)), month) | 1;
+            daysOfMonth.set(index, entry);
+        }
+        return entry & ~1L;
+    }
+
+    private long generate(final int year, final int month) {
+        final int lengthOfMonth = LocalFields.lengthOfMonth(year, month);
+        return FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(cronField, year, month, mondayDoWValue)
+                .generateCandidateMask(1, lengthOfMonth)[0];
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.utils.Preconditions;
+
+import java.time.ZoneId;
+
+/**
+ * Cursor resolving each execution through {@link ExecutionTime#nextExecutionEpochSecond(long, ZoneId)}.
+ */
+class EpochSecondCursor implements CronCursor {
+    private final ExecutionTime executionTime;
+    private final ZoneId zone;
+    private long current;
+
+    EpochSecondCursor(final ExecutionTime executionTime, final long epochSecond, final ZoneId zone) {
+        this.executionTime = Preconditions.checkNotNull(executionTime);
+        this.zone = Preconditions.checkNotNull(zone);
+        this.current = epochSecond;
+    }
+
+    @Override
+    public long nextEpochSecond() {
+        if (current == ExecutionTime.NO_EXECUTION) {
+            return ExecutionTime.NO_EXECUTION;
+        }
+        current = executionTime.nextExecutionEpochSecond(current, zone);
+        return current;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.utils.Preconditions;
+
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over executions after a reference date, ascending.
+ * Each execution is resolved on demand from the previous one, so only the cursor is kept in memory.
+ */
+class ExecutionIterator implements Iterator<ZonedDateTime> {
+    private final ExecutionTime executionTime;
+    private ZonedDateTime cursor;
+    private ZonedDateTime next;
+    private boolean exhausted;
+
+    ExecutionIterator(final ExecutionTime executionTime, final ZonedDateTime date) {
+        this.executionTime = Preconditions.checkNotNull(executionTime);
+        this.cursor = Preconditions.checkNotNull(date);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            next = executionTime.nextExecution(cursor).orElse(null);
+            exhausted = next == null;
+        }
+        return !exhausted;
+    }
+
+    @Override
+    public ZonedDateTime next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        cursor = next;
+        next = null;
+        return cursor;
+    }
+}
@@ -13,6 +13,7 @@
 
 package com.cronutils.model.time;
 
+import com.cronutils.CronMetrics;
 import com.cronutils.model.CompositeCron;
 import com.cronutils.model.Cron;
 import com.cronutils.model.SingleCron;
@@ -20,15 +21,24 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Calculates execution time given a cron pattern.
  */
 public interface ExecutionTime {
 
+    /**
+     * Value returned by the epoch second based queries when there is no execution.
+     */
+    long NO_EXECUTION = Long.MIN_VALUE;
+
     /**
      * Creates execution time for given Cron.
      *
@@ -36,9 +46,36 @@ public interface ExecutionTime {
      * @return ExecutionTime instance
      */
     public static ExecutionTime forCron(final Cron cron) {
+        return forCron(cron, SingleExecutionTime.DEFAULT_SEARCH_HORIZON_YEARS);
+    }
+
+    /**
+     * Creates execution time for given Cron, searching next and last executions up to given number of years
+     * away from the reference date. Dates further away are reported as no execution.
+     * The cost of a search grows with the matching months within the horizon.
+     *
+     * @param cron               - Cron instance
+     * @param searchHorizonYears - years searched from the reference date. Must be positive.
+     * @return ExecutionTime instance
+     */
+    public static ExecutionTime forCron(final Cron cron, final int searchHorizonYears) {
+        return forCron(cron, searchHorizonYears, CronMetrics.NO_OP);
+    }
+
+    /**
+     * Creates execution time for given Cron, reporting the cost of its searches to given metrics.
+     * Members of a composite cron report on their own as well as through the composite.
+     *
+     * @param cron               - Cron instance
+     * @param searchHorizonYears - years searched from the reference date. Must be positive.
+     * @param metrics            - listener for search costs; {@link CronMetrics#NO_OP} to disable reporting.
+     * @return ExecutionTime instance
+     */
+    public static ExecutionTime forCron(final Cron cron, final int searchHorizonYears, final CronMetrics metrics) {
         if (cron instanceof SingleCron) {
             final Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
-            final ExecutionTimeBuilder executionTimeBuilder = new ExecutionTimeBuilder(cron);
+            final ExecutionTimeBuilder executionTimeBuilder = new ExecutionTimeBuilder(cron).withSearchHorizon(searchHorizonYears)
+                    .withMetrics(metrics);
             for (final CronFieldName name : CronFieldName.values()) {
                 if (fields.get(name) != null) {
                     switch (name) {
@@ -74,7 +111,8 @@ public interface ExecutionTime {
             return executionTimeBuilder.build();
         }
         if (cron instanceof CompositeCron) {
-            return new CompositeExecutionTime(((CompositeCron) cron).getCrons().parallelStream().map(ExecutionTime::forCron).collect(Collectors.toList()));
+            return new CompositeExecutionTime(((CompositeCron) cron).getCrons().stream()
+                    .map(member -> forCron(member, searchHorizonYears, metrics)).collect(Collectors.toList()), null, cron, metrics);
         }
 
         return new ExecutionTime() {
@@ -113,6 +151,32 @@ public interface ExecutionTime {
      */
     Optional<ZonedDateTime> nextExecution(final ZonedDateTime date);
 
+    /**
+     * Provide nearest date for next execution, as epoch seconds.
+     * Meant for callers that keep execution times as epoch seconds, avoiding conversions on every call.
+     *
+     * @param epochSecond - reference instant, as seconds since the epoch
+     * @param zone        - zone the cron executes on. If null, a NullPointerException will be raised.
+     * @return next execution as seconds since the epoch, or {@link #NO_EXECUTION} if there is none.
+     */
+    default long nextExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return nextExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone))
+                .map(ZonedDateTime::toEpochSecond)
+                .orElse(NO_EXECUTION);
+    }
+
+    /**
+     * Searches the next execution, recording the work done: steps taken, fields rejected at each step,
+     * day candidate generations and daylight saving time overlaps. Meant for finding expensive crons.
+     * Implementations that cannot trace their search report only the result.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return SearchTrace instance, never null.
+     */
+    default SearchTrace explainNext(final ZonedDateTime date) {
+        return new SearchTrace().complete(nextExecution(date));
+    }
+
     /**
      * Provide nearest time for next execution.
      *
@@ -141,6 +205,20 @@ public interface ExecutionTime {
      */
     Optional<ZonedDateTime> lastExecution(final ZonedDateTime date);
 
+    /**
+     * Provide nearest date for last execution, as epoch seconds.
+     * Meant for callers that keep execution times as epoch seconds, avoiding conversions on every call.
+     *
+     * @param epochSecond - reference instant, as seconds since the epoch
+     * @param zone        - zone the cron executes on. If null, a NullPointerException will be raised.
+     * @return last execution as seconds since the epoch, or {@link #NO_EXECUTION} if there is none.
+     */
+    default long lastExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return lastExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone))
+                .map(ZonedDateTime::toEpochSecond)
+                .orElse(NO_EXECUTION);
+    }
+
     /**
      * Provide nearest time from last execution.
      *
@@ -165,7 +243,15 @@ public interface ExecutionTime {
      * @return count of executions
      */
     default int countExecutions(ZonedDateTime startDate, ZonedDateTime endDate) {
-        return getExecutionDates(startDate, endDate).size();
+        if (endDate.equals(startDate) || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate should take place later in time than startDate");
+        }
+        int count = 0;
+        final Iterator<ZonedDateTime> executions = executionIterator(startDate);
+        while (executions.hasNext() && !executions.next().isAfter(endDate)) {
+            count++;
+        }
+        return count;
     }
 
     /**
@@ -181,13 +267,48 @@ public interface ExecutionTime {
             throw new IllegalArgumentException("endDate should take place later in time than startDate");
         }
         List<ZonedDateTime> executions = new ArrayList<>();
-        ZonedDateTime nextExecutionDate = nextExecution(startDate).orElse(null);
-
-        if (nextExecutionDate == null) return Collections.emptyList();
-        while(nextExecutionDate != null && (nextExecutionDate.isBefore(endDate) || nextExecutionDate.equals(endDate))){
+        final Iterator<ZonedDateTime> iterator = executionIterator(startDate);
+        while (iterator.hasNext()) {
+            final ZonedDateTime nextExecutionDate = iterator.next();
+            if (nextExecutionDate.isAfter(endDate)) {
+                break;
+            }
             executions.add(nextExecutionDate);
-            nextExecutionDate = nextExecution(nextExecutionDate).orElse(null);
         }
         return executions;
     }
+
+    /**
+     * Provide executions after given date, ascending. Executions are computed lazily, as the stream is consumed,
+     * so it may be limited or short-circuited without computing the executions that follow.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return sequential ordered stream of executions; ends when there are no further executions.
+     */
+    default Stream<ZonedDateTime> executionsFrom(final ZonedDateTime date) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(executionIterator(date),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Provide an iterator over executions after given date, ascending. Each execution is computed on demand.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return iterator over executions, never null.
+     */
+    default Iterator<ZonedDateTime> executionIterator(final ZonedDateTime date) {
+        return new ExecutionIterator(this, date);
+    }
+
+    /**
+     * Provide a cursor over executions after given date, ascending, on the zone of given date.
+     * Each step continues from the previous execution, so implementations may keep search state between steps.
+     * Not thread safe.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return CronCursor instance, never null.
+     */
+    default CronCursor cursor(final ZonedDateTime date) {
+        return new EpochSecondCursor(this, date.toEpochSecond(), date.getZone());
+    }
 }
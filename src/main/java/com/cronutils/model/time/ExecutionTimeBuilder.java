@@ -13,6 +13,7 @@
 
 package com.cronutils.model.time;
 
+import com.cronutils.CronMetrics;
 import com.cronutils.model.Cron;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
@@ -37,36 +38,49 @@ class ExecutionTimeBuilder {
     private CronField daysOfMonthCronField;
     private CronField daysOfYearCronField;
 
-    private TimeNode months;
-    private TimeNode hours;
-    private TimeNode minutes;
-    private TimeNode seconds;
+    private FieldMask months;
+    private FieldMask hours;
+    private FieldMask minutes;
+    private FieldMask seconds;
+    private int searchHorizonYears = SingleExecutionTime.DEFAULT_SEARCH_HORIZON_YEARS;
+    private CronMetrics metrics = CronMetrics.NO_OP;
 
     protected ExecutionTimeBuilder(final Cron cron) {
         this.cron = cron;
     }
 
+    protected ExecutionTimeBuilder withSearchHorizon(final int searchHorizonYears) {
+        Preconditions.checkArgument(searchHorizonYears > 0, "Search horizon must be positive");
+        this.searchHorizonYears = searchHorizonYears;
+        return this;
+    }
+
+    protected ExecutionTimeBuilder withMetrics(final CronMetrics metrics) {
+        this.metrics = Preconditions.checkNotNull(metrics, "Metrics must not be null");
+        return this;
+    }
+
     protected ExecutionTimeBuilder forSecondsMatching(final CronField cronField) {
         validate(CronFieldName.SECOND, cronField);
-        seconds = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 59));
+        seconds = FieldMask.of(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateMask(0, 59));
         return this;
     }
 
     protected ExecutionTimeBuilder forMinutesMatching(final CronField cronField) {
         validate(CronFieldName.MINUTE, cronField);
-        minutes = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 59));
+        minutes = FieldMask.of(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateMask(0, 59));
         return this;
     }
 
     protected ExecutionTimeBuilder forHoursMatching(final CronField cronField) {
         validate(CronFieldName.HOUR, cronField);
-        hours = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 23));
+        hours = FieldMask.of(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateMask(0, 23));
         return this;
     }
 
     protected ExecutionTimeBuilder forMonthsMatching(final CronField cronField) {
         validate(CronFieldName.MONTH, cronField);
-        months = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(1, 12));
+        months = FieldMask.of(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateMask(1, 12));
         return this;
     }
 
@@ -97,17 +111,17 @@ class ExecutionTimeBuilder {
     protected ExecutionTime build() {
         boolean lowestAssigned = false;
         if (seconds == null) {
-            seconds = timeNodeLowest(CronFieldName.SECOND, 0, 59);
+            seconds = fieldMaskLowest(CronFieldName.SECOND, 0, 59);
         } else {
             lowestAssigned = true;
         }
         if (minutes == null) {
-            minutes = lowestAssigned ? timeNodeAlways(CronFieldName.MINUTE, 0, 59) : timeNodeLowest(CronFieldName.MINUTE, 0, 59);
+            minutes = lowestAssigned ? fieldMaskAlways(CronFieldName.MINUTE, 0, 59) : fieldMaskLowest(CronFieldName.MINUTE, 0, 59);
         } else {
             lowestAssigned = true;
         }
         if (hours == null) {
-            hours = lowestAssigned ? timeNodeAlways(CronFieldName.HOUR, 0, 23) : timeNodeLowest(CronFieldName.HOUR, 0, 23);
+            hours = lowestAssigned ? fieldMaskAlways(CronFieldName.HOUR, 0, 23) : fieldMaskLowest(CronFieldName.HOUR, 0, 23);
         } else {
             lowestAssigned = true;
         }
@@ -128,7 +142,7 @@ class ExecutionTimeBuilder {
             lowestAssigned = true;
         }
         if (months == null) {
-            months = lowestAssigned ? timeNodeAlways(CronFieldName.MONTH, 1, 12) : timeNodeLowest(CronFieldName.MONTH, 1, 12);
+            months = lowestAssigned ? fieldMaskAlways(CronFieldName.MONTH, 1, 12) : fieldMaskLowest(CronFieldName.MONTH, 1, 12);
         }
         if (yearsValueGenerator == null) {
             yearsValueGenerator =
@@ -144,23 +158,23 @@ class ExecutionTimeBuilder {
 
         return new SingleExecutionTime(this.cron.getCronDefinition(),
                 this.cron.retrieve(CronFieldName.YEAR), daysOfWeekCronField, daysOfMonthCronField, daysOfYearCronField,
-                months, hours, minutes, seconds
+                months, hours, minutes, seconds, searchHorizonYears, cron, metrics
         );
     }
 
-    private TimeNode timeNodeLowest(final CronFieldName name, final int lower, final int higher) {
+    private FieldMask fieldMaskLowest(final CronFieldName name, final int lower, final int higher) {
         final FieldConstraints constraints = getConstraint(name);
-        return new TimeNode(
+        return FieldMask.of(
                 FieldValueGeneratorFactory.forCronField(
                         new CronField(name, new On(new IntegerFieldValue(lower)), constraints)
-                ).generateCandidates(lower, higher));
+                ).generateCandidateMask(lower, higher));
     }
 
-    private TimeNode timeNodeAlways(final CronFieldName name, final int lower, final int higher) {
-        return new TimeNode(
+    private FieldMask fieldMaskAlways(final CronFieldName name, final int lower, final int higher) {
+        return FieldMask.of(
                 FieldValueGeneratorFactory.forCronField(
                         new CronField(name, always(), getConstraint(name))
-                ).generateCandidates(lower, higher));
+                ).generateCandidateMask(lower, higher));
     }
 
     private void validate(final CronFieldName name, final CronField cronField) {
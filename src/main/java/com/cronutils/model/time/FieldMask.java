@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.time.generator.FieldValueGenerator;
+import com.cronutils.utils.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.cronutils.model.time.generator.FieldValueGenerator.NO_VALUE;
+
+/**
+ * Compiled set of values a time field may take. Bit n of the mask is set if value n is allowed.
+ * Supports fields whose values fall within [0, 63]: seconds, minutes, hours, days of month and months.
+ */
+final class FieldMask {
+    private static final int MAX_VALUE = Long.SIZE - 1;
+
+    private final long mask;
+
+    FieldMask(final long mask) {
+        Preconditions.checkArgument(mask != 0, "Values must not be empty");
+        this.mask = mask;
+    }
+
+    static FieldMask of(final Collection<Integer> values) {
+        return new FieldMask(toMask(values));
+    }
+
+    /**
+     * @param candidates - candidates mask, as generated by {@link com.cronutils.model.time.generator.FieldValueGenerator#generateCandidateMask(int, int)}
+     * @return FieldMask instance
+     */
+    static FieldMask of(final long[] candidates) {
+        Preconditions.checkArgument(candidates.length == 1, "Values must be within [0, 63]");
+        return new FieldMask(candidates[0]);
+    }
+
+    static long toMask(final Collection<Integer> values) {
+        Preconditions.checkNotNull(values, "Values must not be null");
+        long mask = 0;
+        for (final int value : values) {
+            if (value < 0 || value > MAX_VALUE) {
+                throw new IllegalArgumentException(String.format("Value %s out of range [0, %s]", value, MAX_VALUE));
+            }
+            mask |= 1L << value;
+        }
+        return mask;
+    }
+
+    /**
+     * @param mask - values mask
+     * @return values in the mask, ascending
+     */
+    static List<Integer> values(final long mask) {
+        final List<Integer> values = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            values.add(Long.numberOfTrailingZeros(remaining));
+        }
+        return values;
+    }
+
+    /**
+     * @param mask - values mask
+     * @return values in given mask, in ascending order
+     */
+    static int[] toArray(final long mask) {
+        final int[] values = new int[Long.bitCount(mask)];
+        int index = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            values[index++] = Long.numberOfTrailingZeros(remaining);
+        }
+        return values;
+    }
+
+    long getMask() {
+        return mask;
+    }
+
+    boolean contains(final int value) {
+        return contains(mask, value);
+    }
+
+    int first() {
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    int last() {
+        return MAX_VALUE - Long.numberOfLeadingZeros(mask);
+    }
+
+    int size() {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * @param reference - reference value
+     * @return smallest allowed value greater than or equal to reference, {@link FieldValueGenerator#NO_VALUE} if there is none.
+     */
+    int nextValue(final int reference) {
+        return next(mask, reference);
+    }
+
+    /**
+     * @param reference - reference value
+     * @return greatest allowed value lower than or equal to reference, {@link FieldValueGenerator#NO_VALUE} if there is none.
+     */
+    int previousValue(final int reference) {
+        return previous(mask, reference);
+    }
+
+    static boolean contains(final long mask, final int value) {
+        return value >= 0 && value <= MAX_VALUE && (mask & (1L << value)) != 0;
+    }
+
+    static int next(final long mask, final int reference) {
+        if (reference > MAX_VALUE) {
+            return NO_VALUE;
+        }
+        final long candidates = reference <= 0 ? mask : mask & (-1L << reference);
+        return candidates == 0 ? NO_VALUE : Long.numberOfTrailingZeros(candidates);
+    }
+
+    static int previous(final long mask, final int reference) {
+        if (reference < 0) {
+            return NO_VALUE;
+        }
+        final long candidates = reference >= MAX_VALUE ? mask : mask & ((1L << (reference + 1)) - 1);
+        return candidates == 0 ? NO_VALUE : MAX_VALUE - Long.numberOfLeadingZeros(candidates);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldMask{" + Long.toBinaryString(mask) + '}';
+    }
+}
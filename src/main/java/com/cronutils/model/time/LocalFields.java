@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+/**
+ * Conversions between local epoch seconds and calendar fields, done on primitives so no dates get allocated.
+ * A local epoch second counts seconds since 1970-01-01T00:00 on the local time-line, regardless of any offset.
+ * Dates are packed into a long as (year &lt;&lt; 9) | (month &lt;&lt; 5) | day.
+ */
+final class LocalFields {
+    static final int SECONDS_PER_MINUTE = 60;
+    static final int SECONDS_PER_HOUR = 3_600;
+    static final int SECONDS_PER_DAY = 86_400;
+
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final int DAYS_PER_ERA = 146_097;
+
+    private LocalFields() {
+    }
+
+    static long toEpochSecond(final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        return toEpochDay(year, month, day) * SECONDS_PER_DAY + hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+    }
+
+    static long toEpochDay(final int year, final int month, final int day) {
+        final long y = month <= 2 ? year - 1L : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @param epochDay - days since 1970-01-01
+     * @return packed date, to be read with year(), month() and day()
+     */
+    static long toDate(final long epochDay) {
+        final long shifted = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        final long dayOfEra = shifted - era * DAYS_PER_ERA;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long monthIndex = (5 * dayOfYear + 2) / 153;
+        final int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        final int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    static int year(final long date) {
+        return (int) (date >> 9);
+    }
+
+    static int month(final long date) {
+        return (int) (date >> 5) & 0xF;
+    }
+
+    static int day(final long date) {
+        return (int) date & 0x1F;
+    }
+
+    static boolean isLeapYear(final int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
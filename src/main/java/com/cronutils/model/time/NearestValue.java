@@ -29,4 +29,23 @@ class NearestValue {
     public int getShifts() {
         return shifts;
     }
+
+    /**
+     * Packs a value and its shifts into a long, so lookups can report both without allocating.
+     *
+     * @param value  - value
+     * @param shifts - shifts performed to reach the value
+     * @return value in the high 32 bits, shifts in the low 32 bits
+     */
+    static long pack(final int value, final int shifts) {
+        return ((long) value << 32) | (shifts & 0xFFFFFFFFL);
+    }
+
+    static int value(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    static int shifts(final long packed) {
+        return (int) packed;
+    }
 }
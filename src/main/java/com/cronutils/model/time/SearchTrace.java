@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.field.CronFieldName;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Record of the work done by a next execution search, as returned by {@link ExecutionTime#explainNext(ZonedDateTime)}.
+ * Meant for diagnosing expensive crons, not for scheduling: tracing is slower than a plain search.
+ */
+public final class SearchTrace {
+    private Optional<ZonedDateTime> result = Optional.empty();
+    private int iterations;
+    private final List<CronFieldName> carries = new ArrayList<>();
+    private int dayCandidateGenerations;
+    private boolean dstOverlap;
+
+    SearchTrace() {
+    }
+
+    /**
+     * @return next execution found by the search, or empty if there is none.
+     */
+    public Optional<ZonedDateTime> getResult() {
+        return result;
+    }
+
+    /**
+     * @return search steps taken, including the one finding the execution.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return for each step that did not find an execution, in order, the field whose value was rejected and
+     *     from which the search moved forward, carrying into higher fields as needed.
+     */
+    public List<CronFieldName> getCarries() {
+        return Collections.unmodifiableList(carries);
+    }
+
+    /**
+     * @return number of steps in which given field was rejected
+     */
+    public int getCarryCount(final CronFieldName field) {
+        int count = 0;
+        for (final CronFieldName carry : carries) {
+            if (carry == field) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return times the days of month matching the cron were generated for a month, not counting lookups served from the cache.
+     */
+    public int getDayCandidateGenerations() {
+        return dayCandidateGenerations;
+    }
+
+    /**
+     * @return true if the search ran into a daylight saving time overlap and searched again past it.
+     */
+    public boolean isDstOverlap() {
+        return dstOverlap;
+    }
+
+    void step(final CronFieldName carry) {
+        iterations++;
+        if (carry != null) {
+            carries.add(carry);
+        }
+    }
+
+    void dayCandidatesGenerated() {
+        dayCandidateGenerations++;
+    }
+
+    void dstOverlap() {
+        dstOverlap = true;
+    }
+
+    SearchTrace complete(final Optional<ZonedDateTime> result) {
+        this.result = result;
+        return this;
+    }
+
+    /**
+     * Adds the work of a member search, keeping the earliest result.
+     */
+    void add(final SearchTrace member) {
+        iterations += member.iterations;
+        carries.addAll(member.carries);
+        dayCandidateGenerations += member.dayCandidateGenerations;
+        dstOverlap |= member.dstOverlap;
+        if (member.result.isPresent() && (!result.isPresent() || member.result.get().isBefore(result.get()))) {
+            result = member.result;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final Map<CronFieldName, Integer> carryCounts = new EnumMap<>(CronFieldName.class);
+        for (final CronFieldName carry : carries) {
+            carryCounts.merge(carry, 1, Integer::sum);
+        }
+        return String.format("SearchTrace{result=%s, iterations=%d, carries=%s, dayCandidateGenerations=%d, dstOverlap=%s}",
+                result.orElse(null), iterations, carryCounts, dayCandidateGenerations, dstOverlap);
+    }
+}
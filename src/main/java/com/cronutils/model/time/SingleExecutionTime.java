@@ -13,10 +13,12 @@
 
 package com.cronutils.model.time;
 
-import com.cronutils.mapper.WeekDay;
+import com.cronutils.CronMetrics;
+import com.cronutils.model.Cron;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraints;
 import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
 import com.cronutils.model.field.definition.DayOfWeekFieldDefinition;
 import com.cronutils.model.field.expression.Always;
@@ -32,17 +34,14 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
-import java.util.HashSet;
-import java.util.List;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import static com.cronutils.model.field.CronFieldName.*;
 import static com.cronutils.model.field.value.SpecialChar.QUESTION_MARK;
 import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.*;
-import static com.cronutils.utils.Predicates.not;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
@@ -52,37 +51,108 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
  */
 public class SingleExecutionTime implements ExecutionTime {
     private static final int MAX_ITERATIONS = 100_000;
+    /**
+     * Years searched from the reference date, in either direction, unless another horizon is given.
+     */
+    static final int DEFAULT_SEARCH_HORIZON_YEARS = 100;
+    private static final long OFFSET_STABILITY_MARGIN = LocalFields.SECONDS_PER_DAY;
+
 
-    private static final LocalTime MAX_SECONDS = LocalTime.MAX.truncatedTo(SECONDS);
+    /**
+     * Number of (year, month) day sets kept per instance; a power of two.
+     */
+    private static final int DAYS_CACHE_SIZE = 64;
+    private static final int MAX_CACHED_YEAR = Integer.MAX_VALUE / 12 - 1;
+    private static final int NOT_ANALYSED = -1;
 
     private final CronDefinition cronDefinition;
-    private final FieldValueGenerator yearsValueGenerator;
+    private final YearSet years;
     private final CronField daysOfWeekCronField;
     private final CronField daysOfMonthCronField;
     private final CronField daysOfYearCronField;
+    /**
+     * Days of month matching the days of week, by year type and month. Built on first use and published through
+     * this volatile field; a racy first use only builds a table twice.
+     */
+    private volatile DayOfWeekTable daysOfWeekTable;
+    /**
+     * Days of year matching the cron, for common years at index 0 and leap years at index 1. Compiled on first use;
+     * the arrays are not modified once published through this volatile field.
+     */
+    private volatile long[][] daysOfYear;
+
+    private final FieldMask months;
+    private final FieldMask hours;
+    private final FieldMask minutes;
+    private final FieldMask seconds;
+    /**
+     * Whether dates can be matched field by field. Search based matching ignores fields missing from the definition.
+     */
+    private final boolean directMatch;
+    private final int searchHorizonYears;
+    /**
+     * Cron reported to metrics; null if this instance was not built from a cron.
+     */
+    private final Cron cron;
+    private final CronMetrics metrics;
 
-    private final TimeNode months;
-    private final TimeNode hours;
-    private final TimeNode minutes;
-    private final TimeNode seconds;
+    /**
+     * Days of month matching the cron, by (year, month). Direct mapped on year * 12 + month - 1: each slot holds
+     * the key in its upper half and the days mask in its lower half. Bit 0 of the mask, never a day, marks the slot as filled.
+     */
+    private final AtomicLongArray daysCache = new AtomicLongArray(DAYS_CACHE_SIZE);
+    /**
+     * Year types the cron executes in, as a mask with bit n set for {@link YearType} n; zero if the cron never executes.
+     * Computed on first use, so building stays cheap.
+     */
+    private volatile int firingYearTypes = NOT_ANALYSED;
 
     @VisibleForTesting
     SingleExecutionTime(final CronDefinition cronDefinition, final CronField yearsValueCronField, final CronField daysOfWeekCronField,
-            final CronField daysOfMonthCronField, final CronField daysOfYearCronField, final TimeNode months, final TimeNode hours,
-            final TimeNode minutes, final TimeNode seconds) {
+            final CronField daysOfMonthCronField, final CronField daysOfYearCronField, final FieldMask months, final FieldMask hours,
+            final FieldMask minutes, final FieldMask seconds) {
+        this(cronDefinition, yearsValueCronField, daysOfWeekCronField, daysOfMonthCronField, daysOfYearCronField, months, hours, minutes, seconds,
+                DEFAULT_SEARCH_HORIZON_YEARS);
+    }
+
+    /**
+     * @param searchHorizonYears - years searched from the reference date for next and last executions. Must be positive.
+     */
+    SingleExecutionTime(final CronDefinition cronDefinition, final CronField yearsValueCronField, final CronField daysOfWeekCronField,
+            final CronField daysOfMonthCronField, final CronField daysOfYearCronField, final FieldMask months, final FieldMask hours,
+            final FieldMask minutes, final FieldMask seconds, final int searchHorizonYears) {
+        this(cronDefinition, yearsValueCronField, daysOfWeekCronField, daysOfMonthCronField, daysOfYearCronField, months, hours, minutes, seconds,
+                searchHorizonYears, null, CronMetrics.NO_OP);
+    }
+
+    /**
+     * @param searchHorizonYears - years searched from the reference date for next and last executions. Must be positive.
+     * @param cron               - cron reported to metrics; may be null.
+     * @param metrics            - listener for search costs. If null, a NullPointerException will be raised.
+     */
+    SingleExecutionTime(final CronDefinition cronDefinition, final CronField yearsValueCronField, final CronField daysOfWeekCronField,
+            final CronField daysOfMonthCronField, final CronField daysOfYearCronField, final FieldMask months, final FieldMask hours,
+            final FieldMask minutes, final FieldMask seconds, final int searchHorizonYears, final Cron cron, final CronMetrics metrics) {
+        Preconditions.checkArgument(searchHorizonYears > 0, "Search horizon must be positive");
+        this.searchHorizonYears = searchHorizonYears;
+        this.cron = cron;
+        this.metrics = Preconditions.checkNotNull(metrics, "Metrics must not be null");
         this.cronDefinition = Preconditions.checkNotNull(cronDefinition);
+        final FieldValueGenerator yearsValueGenerator;
+        final FieldConstraints yearsConstraints;
         if(cronDefinition.containsFieldDefinition(CronFieldName.YEAR)){
             if(!cronDefinition.getFieldDefinition(CronFieldName.YEAR).isOptional()){
                 Preconditions.checkNotNull(yearsValueCronField);
             }
-            this.yearsValueGenerator = (yearsValueCronField == null)
-                    ? FieldValueGeneratorFactory.forCronField(new CronField(CronFieldName.YEAR, Always.always(),
-                    cronDefinition.getFieldDefinition(CronFieldName.YEAR).getConstraints()))
+            yearsConstraints = cronDefinition.getFieldDefinition(CronFieldName.YEAR).getConstraints();
+            yearsValueGenerator = (yearsValueCronField == null)
+                    ? FieldValueGeneratorFactory.forCronField(new CronField(CronFieldName.YEAR, Always.always(), yearsConstraints))
                     : createYearValueGeneratorInstance(yearsValueCronField);
         } else {
-            this.yearsValueGenerator = FieldValueGeneratorFactory.forCronField(new CronField(CronFieldName.YEAR, Always.always(),
-                    FieldConstraintsBuilder.instance().createConstraintsInstance()));
+            yearsConstraints = FieldConstraintsBuilder.instance().createConstraintsInstance();
+            yearsValueGenerator = FieldValueGeneratorFactory.forCronField(new CronField(CronFieldName.YEAR, Always.always(), yearsConstraints));
         }
+        this.years = YearSet.of(yearsValueGenerator, yearsConstraints);
         this.daysOfWeekCronField = Preconditions.checkNotNull(daysOfWeekCronField);
         this.daysOfMonthCronField = Preconditions.checkNotNull(daysOfMonthCronField);
         this.daysOfYearCronField = daysOfYearCronField;
@@ -90,6 +160,24 @@ public class SingleExecutionTime implements ExecutionTime {
         this.hours = Preconditions.checkNotNull(hours);
         this.minutes = Preconditions.checkNotNull(minutes);
         this.seconds = Preconditions.checkNotNull(seconds);
+        this.directMatch = cronDefinition.containsFieldDefinition(MINUTE) && cronDefinition.containsFieldDefinition(HOUR)
+                && cronDefinition.containsFieldDefinition(DAY_OF_MONTH) && cronDefinition.containsFieldDefinition(MONTH);
+    }
+
+    FieldMask getMonths() {
+        return months;
+    }
+
+    FieldMask getHours() {
+        return hours;
+    }
+
+    FieldMask getMinutes() {
+        return minutes;
+    }
+
+    FieldMask getSeconds() {
+        return seconds;
     }
 
     /**
@@ -100,16 +188,50 @@ public class SingleExecutionTime implements ExecutionTime {
      */
     public Optional<ZonedDateTime> nextExecution(final ZonedDateTime date) {
         Preconditions.checkNotNull(date);
+        if (metrics == CronMetrics.NO_OP) {
+            return searchNextExecution(date);
+        }
+        final long start = System.nanoTime();
+        final SearchTrace trace = new SearchTrace();
+        final Optional<ZonedDateTime> next = searchNextExecution(date, trace);
+        report(CronMetrics.Operation.NEXT_EXECUTION, start, trace, next.isPresent());
+        return next;
+    }
+
+    /**
+     * Searches the next execution as {@link #nextExecution(ZonedDateTime)} does, recording each step of the search.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return SearchTrace instance, never null. Holds the next execution, if any, and the work done to find it.
+     */
+    @Override
+    public SearchTrace explainNext(final ZonedDateTime date) {
+        Preconditions.checkNotNull(date);
+        final SearchTrace trace = new SearchTrace();
+        return trace.complete(searchNextExecution(date, trace));
+    }
+
+    private Optional<ZonedDateTime> searchNextExecution(final ZonedDateTime date) {
+        return searchNextExecution(date, null);
+    }
+
+    /**
+     * @param trace - records the search; null if not traced.
+     */
+    private Optional<ZonedDateTime> searchNextExecution(final ZonedDateTime date, final SearchTrace trace) {
         try {
-            ZonedDateTime nextMatch = nextClosestMatch(date);
+            ZonedDateTime nextMatch = nextClosestMatch(date, trace);
             if (nextMatch.equals(date)) {
-                nextMatch = nextClosestMatch(date.plusSeconds(1));
+                nextMatch = nextClosestMatch(date.plusSeconds(1), trace);
 
                 if (nextMatch.getOffset().compareTo(date.getOffset()) > 0) {
                     // daylight saving time overlap case: issue #446
+                    if (trace != null) {
+                        trace.dstOverlap();
+                    }
                     Optional<ZonedDateTime> nextNextExecution = Optional.empty();
                     try {
-                        nextNextExecution = Optional.of(nextClosestMatch(nextMatch.plusSeconds(1)));
+                        nextNextExecution = Optional.of(nextClosestMatch(nextMatch.plusSeconds(1), trace));
                     }
                     catch (final NoSuchValueException canBeIgnored) {}
 
@@ -117,7 +239,7 @@ public class SingleExecutionTime implements ExecutionTime {
                         final boolean lessFrequentThan1Hour = (Duration.between(nextMatch, nextNextExecution.get()).toHours() > 1);
                         if (lessFrequentThan1Hour) {
                             // Avoid duplicate execution during DST overlap
-                            nextMatch = nextClosestMatch(date.plusSeconds(1).plusHours(1));
+                            nextMatch = nextClosestMatch(date.plusSeconds(1).plusHours(1), trace);
                         }
                     }
                 }
@@ -129,6 +251,292 @@ public class SingleExecutionTime implements ExecutionTime {
         }
     }
 
+    /**
+     * Provide nearest date for next execution, as epoch seconds.
+     * Searches on local date-time fields and resolves the zone offset once, on the match.
+     * If a zone offset transition lies close to the searched range, the query is resolved through {@link #nextExecution(ZonedDateTime)}.
+     *
+     * @param epochSecond - reference instant, as seconds since the epoch
+     * @param zone        - zone the cron executes on. If null, a NullPointerException will be raised.
+     * @return next execution as seconds since the epoch, or {@link #NO_EXECUTION} if there is none.
+     */
+    @Override
+    public long nextExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        if (metrics == CronMetrics.NO_OP) {
+            return searchNextExecutionEpochSecond(epochSecond, zone, null);
+        }
+        final long start = System.nanoTime();
+        final SearchTrace trace = new SearchTrace();
+        final long next = searchNextExecutionEpochSecond(epochSecond, zone, trace);
+        report(CronMetrics.Operation.NEXT_EXECUTION, start, trace, next != NO_EXECUTION);
+        return next;
+    }
+
+    /**
+     * @param trace - counts the search steps; null if not counted.
+     */
+    private long searchNextExecutionEpochSecond(final long epochSecond, final ZoneId zone, final SearchTrace trace) {
+        final ZoneRules rules = Preconditions.checkNotNull(zone).getRules();
+        final int offset = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        final long localMatch = nextLocalMatch(epochSecond + offset + 1, trace);
+        if (localMatch != NO_EXECUTION) {
+            final long match = localMatch - offset;
+            if (isOffsetStable(rules, epochSecond, match)) {
+                return match;
+            }
+        }
+        return searchNextExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone), trace)
+                .map(ZonedDateTime::toEpochSecond)
+                .orElse(NO_EXECUTION);
+    }
+
+    /**
+     * Provide nearest date for last execution, as epoch seconds.
+     * Searches on local date-time fields and resolves the zone offset once, on the match.
+     * If a zone offset transition lies close to the searched range, the query is resolved through {@link #lastExecution(ZonedDateTime)}.
+     *
+     * @param epochSecond - reference instant, as seconds since the epoch
+     * @param zone        - zone the cron executes on. If null, a NullPointerException will be raised.
+     * @return last execution as seconds since the epoch, or {@link #NO_EXECUTION} if there is none.
+     */
+    @Override
+    public long lastExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        if (metrics == CronMetrics.NO_OP) {
+            return searchLastExecutionEpochSecond(epochSecond, zone, null);
+        }
+        final long start = System.nanoTime();
+        final SearchTrace trace = new SearchTrace();
+        final long last = searchLastExecutionEpochSecond(epochSecond, zone, trace);
+        report(CronMetrics.Operation.LAST_EXECUTION, start, trace, last != NO_EXECUTION);
+        return last;
+    }
+
+    /**
+     * @param trace - counts the search steps; null if not counted.
+     */
+    private long searchLastExecutionEpochSecond(final long epochSecond, final ZoneId zone, final SearchTrace trace) {
+        final ZoneRules rules = Preconditions.checkNotNull(zone).getRules();
+        final int offset = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        final long localMatch = previousLocalMatch(epochSecond + offset - 1, trace);
+        if (localMatch != NO_EXECUTION) {
+            final long match = localMatch - offset;
+            if (isOffsetStable(rules, match, epochSecond)) {
+                return match;
+            }
+        }
+        return searchLastExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone), trace)
+                .map(ZonedDateTime::toEpochSecond)
+                .orElse(NO_EXECUTION);
+    }
+
+    /**
+     * Provide a cursor over executions after given date. The cursor keeps the local date-time fields of the current
+     * execution and moves them like an odometer: the seconds move to their next allowed value, and carry to the minutes
+     * only when they wrap around, and so on up to the years. Steps close to a zone offset transition are resolved
+     * through {@link #nextExecutionEpochSecond(long, ZoneId)}.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return CronCursor instance, never null.
+     */
+    @Override
+    public CronCursor cursor(final ZonedDateTime date) {
+        return new OdometerCursor(date.toEpochSecond(), date.getZone());
+    }
+
+    /**
+     * Reports a completed public search to metrics, once: its time, its steps, and whether it found no execution.
+     */
+    private void report(final CronMetrics.Operation operation, final long start, final SearchTrace trace, final boolean found) {
+        metrics.timed(cron, operation, System.nanoTime() - start);
+        metrics.searched(cron, operation, trace.getIterations());
+        if (!found) {
+            metrics.noSuchValue(cron, operation);
+        }
+    }
+
+    /**
+     * Whether the zone offset is constant from a day before the start instant to a day after the end instant.
+     * The margin keeps local date-times that resolve ambiguously out of the search.
+     */
+    private static boolean isOffsetStable(final ZoneRules rules, final long startEpochSecond, final long endEpochSecond) {
+        if (rules.isFixedOffset()) {
+            return true;
+        }
+        final ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(startEpochSecond - OFFSET_STABILITY_MARGIN));
+        return transition == null || transition.toEpochSecond() > endEpochSecond + OFFSET_STABILITY_MARGIN;
+    }
+
+    /**
+     * Finds the earliest local date-time matching the cron, at or after the reference.
+     * Fields are walked from years down to seconds; when a field runs out of values the next higher field is moved forward.
+     *
+     * @param localEpochSecond - reference, as local epoch seconds
+     * @param trace            - counts the search steps; null if not counted.
+     * @return local epoch seconds of the match, NO_EXECUTION if there is none within the search horizon.
+     */
+    private long nextLocalMatch(final long localEpochSecond, final SearchTrace trace) {
+        final long date = LocalFields.toDate(Math.floorDiv(localEpochSecond, LocalFields.SECONDS_PER_DAY));
+        final int secondOfDay = (int) Math.floorMod(localEpochSecond, LocalFields.SECONDS_PER_DAY);
+        int year = LocalFields.year(date);
+        int month = LocalFields.month(date);
+        int day = LocalFields.day(date);
+        int hour = secondOfDay / LocalFields.SECONDS_PER_HOUR;
+        int minute = secondOfDay / LocalFields.SECONDS_PER_MINUTE % 60;
+        int second = secondOfDay % LocalFields.SECONDS_PER_MINUTE;
+        final int maxYear = year + searchHorizonYears;
+
+        while (year <= maxYear) {
+            traceStep(trace, null);
+            if (!years.contains(year) || !isFiringYear(year)) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            final int nextMonth = months.nextValue(month);
+            if (nextMonth == FieldValueGenerator.NO_VALUE) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+            final int nextDay = FieldMask.next(daysOfMonthMask(year, month), day);
+            if (nextDay == FieldValueGenerator.NO_VALUE) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+            final int nextHour = hours.nextValue(hour);
+            if (nextHour == FieldValueGenerator.NO_VALUE) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+            final int nextMinute = minutes.nextValue(minute);
+            if (nextMinute == FieldValueGenerator.NO_VALUE) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+            final int nextSecond = seconds.nextValue(second);
+            if (nextSecond == FieldValueGenerator.NO_VALUE) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return LocalFields.toEpochSecond(year, month, day, hour, minute, nextSecond);
+        }
+        return NO_EXECUTION;
+    }
+
+    /**
+     * Finds the latest local date-time matching the cron, at or before the reference.
+     * Mirrors {@link #nextLocalMatch(long, SearchTrace)}, moving fields backwards.
+     *
+     * @param localEpochSecond - reference, as local epoch seconds
+     * @return local epoch seconds of the match, NO_EXECUTION if there is none within the search horizon.
+     */
+    private long previousLocalMatch(final long localEpochSecond, final SearchTrace trace) {
+        final long date = LocalFields.toDate(Math.floorDiv(localEpochSecond, LocalFields.SECONDS_PER_DAY));
+        final int secondOfDay = (int) Math.floorMod(localEpochSecond, LocalFields.SECONDS_PER_DAY);
+        int year = LocalFields.year(date);
+        int month = LocalFields.month(date);
+        int day = LocalFields.day(date);
+        int hour = secondOfDay / LocalFields.SECONDS_PER_HOUR;
+        int minute = secondOfDay / LocalFields.SECONDS_PER_MINUTE % 60;
+        int second = secondOfDay % LocalFields.SECONDS_PER_MINUTE;
+        final int minYear = year - searchHorizonYears;
+
+        while (year >= minYear) {
+            traceStep(trace, null);
+            if (!years.contains(year) || !isFiringYear(year)) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            final int previousMonth = months.previousValue(month);
+            if (previousMonth == FieldValueGenerator.NO_VALUE) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (previousMonth != month) {
+                month = previousMonth;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+            }
+            final int previousDay = FieldMask.previous(daysOfMonthMask(year, month), day);
+            if (previousDay == FieldValueGenerator.NO_VALUE) {
+                month--;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (previousDay != day) {
+                day = previousDay;
+                hour = 23;
+                minute = second = 59;
+            }
+            final int previousHour = hours.previousValue(hour);
+            if (previousHour == FieldValueGenerator.NO_VALUE) {
+                day--;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (previousHour != hour) {
+                hour = previousHour;
+                minute = second = 59;
+            }
+            final int previousMinute = minutes.previousValue(minute);
+            if (previousMinute == FieldValueGenerator.NO_VALUE) {
+                hour--;
+                minute = second = 59;
+                continue;
+            }
+            if (previousMinute != minute) {
+                minute = previousMinute;
+                second = 59;
+            }
+            final int previousSecond = seconds.previousValue(second);
+            if (previousSecond == FieldValueGenerator.NO_VALUE) {
+                minute--;
+                second = 59;
+                continue;
+            }
+            return LocalFields.toEpochSecond(year, month, day, hour, minute, previousSecond);
+        }
+        return NO_EXECUTION;
+    }
+
     /**
      * If date is not match, will return next closest match.
      * If date is match, will return this date.
@@ -137,14 +545,17 @@ public class SingleExecutionTime implements ExecutionTime {
      * @return ZonedDateTime instance, never null. Value obeys logic specified above.
      * @throws NoSuchValueException if there is no potential next year
      */
-    private ZonedDateTime nextClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
+    private ZonedDateTime nextClosestMatch(final ZonedDateTime date, final SearchTrace trace) throws NoSuchValueException {
+        if (getFiringYearTypes() == 0) {
+            throw new NoSuchValueException();
+        }
         ExecutionTimeResult result = new ExecutionTimeResult(date, false);
         for (int i = 0; i < MAX_ITERATIONS; i++) {
-            result = potentialNextClosestMatch(result.getTime());
+            result = potentialNextClosestMatch(result.getTime(), trace);
             if (result.isMatch()) {
                 return result.getTime();
             }
-            if (result.getTime().getYear() - date.getYear() > 100) {
+            if (result.getTime().getYear() - date.getYear() > searchHorizonYears) {
                 throw new NoSuchValueException();
             }
         }
@@ -152,78 +563,94 @@ public class SingleExecutionTime implements ExecutionTime {
         throw new NoSuchValueException();
     }
 
-    private ExecutionTimeResult potentialNextClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
-        final List<Integer> year = yearsValueGenerator.generateCandidates(date.getYear(), date.getYear()).stream().filter(d->d>=date.getYear()).collect(Collectors.toList());
-        final int lowestMonth = months.getValues().get(0);
-        final int lowestHour = hours.getValues().get(0);
-        final int lowestMinute = minutes.getValues().get(0);
-        final int lowestSecond = seconds.getValues().get(0);
-
-        if (year.isEmpty()) {
-            return getNextPotentialYear(date, lowestMonth, lowestHour, lowestMinute, lowestSecond);
+    /**
+     * @param trace - records the step; null if not traced.
+     */
+    private ExecutionTimeResult potentialNextClosestMatch(final ZonedDateTime date, final SearchTrace trace) throws NoSuchValueException {
+        final int lowestMonth = months.first();
+        final int lowestHour = hours.first();
+        final int lowestMinute = minutes.first();
+        final int lowestSecond = seconds.first();
+
+        if (!years.contains(date.getYear()) || !isFiringYear(date.getYear())) {
+            traceStep(trace, YEAR);
+            return getNextPotentialYear(date, lowestMonth, lowestHour, lowestMinute, lowestSecond, trace);
         }
 
-        if (!months.getValues().contains(date.getMonthValue())) {
-            return getNextPotentialMonth(date, lowestHour, lowestMinute, lowestSecond);
+        if (!months.contains(date.getMonthValue())) {
+            traceStep(trace, MONTH);
+            return getNextPotentialMonth(date, lowestHour, lowestMinute, lowestSecond, trace);
         }
 
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition, date);
+        final Optional<TimeNode> optionalDays = generateDays(date.getYear(), date.getMonthValue(), trace);
         if (!optionalDays.isPresent()) {
+            traceStep(trace, DAY_OF_MONTH);
             return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
         }
         final TimeNode node = optionalDays.get();
 
-        if (!node.getValues().contains(date.getDayOfMonth())) {
+        if (!node.contains(date.getDayOfMonth())) {
+            traceStep(trace, DAY_OF_MONTH);
             return getNextPotentialDayOfMonth(date, lowestHour, lowestMinute, lowestSecond, node);
         }
-        if (!hours.getValues().contains(date.getHour())) {
+        if (!hours.contains(date.getHour())) {
+            traceStep(trace, HOUR);
             return getNextPotentialHour(date);
         }
-        if (!minutes.getValues().contains(date.getMinute())) {
+        if (!minutes.contains(date.getMinute())) {
+            traceStep(trace, MINUTE);
             return getNextPotentialMinute(date);
         }
-        if (!seconds.getValues().contains(date.getSecond())) {
+        if (!seconds.contains(date.getSecond())) {
+            traceStep(trace, SECOND);
             return getNextPotentialSecond(date);
         }
 
+        traceStep(trace, null);
         return new ExecutionTimeResult(date, true);
     }
 
+    private static void traceStep(final SearchTrace trace, final CronFieldName carry) {
+        if (trace != null) {
+            trace.step(carry);
+        }
+    }
+
     private ExecutionTimeResult getNextPotentialYear(final ZonedDateTime date,
                                                      final int lowestMonth,
                                                      final int lowestHour,
                                                      final int lowestMinute,
-                                                     final int lowestSecond)
+                                                     final int lowestSecond,
+                                                     final SearchTrace trace)
                                                      throws NoSuchValueException {
-        final int newYear = yearsValueGenerator.generateNextValue(date.getYear());
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition, ZonedDateTime.of(
-                LocalDate.of(newYear, lowestMonth, 1),
-                LocalTime.MIN,
-                date.getZone())
-        );
+        int newYear = years.next(date.getYear());
+        // years without executions are skipped as a whole
+        while (newYear != FieldValueGenerator.NO_VALUE && !isFiringYear(newYear)) {
+            newYear = years.next(newYear);
+        }
+        if (newYear == FieldValueGenerator.NO_VALUE) {
+            throw new NoSuchValueException();
+        }
+        final Optional<TimeNode> optionalDays = generateDays(newYear, lowestMonth, trace);
         if (optionalDays.isPresent()) {
-            final List<Integer> days = optionalDays.get().getValues();
             return new ExecutionTimeResult(ZonedDateTime.of(
-                    LocalDate.of(newYear, lowestMonth, days.get(0)),
+                    LocalDate.of(newYear, lowestMonth, optionalDays.get().getLowestValue()),
                     LocalTime.of(lowestHour, lowestMinute, lowestSecond), date.getZone()), false);
         } else {
             return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
         }
     }
 
-    private ExecutionTimeResult getNextPotentialMonth(final ZonedDateTime date, final int lowestHour, final int lowestMinute, final int lowestSecond) {
-        NearestValue nearestValue;
-        nearestValue = months.getNextValue(date.getMonthValue(), 0);
-        final int nextMonths = nearestValue.getValue();
-        if (nearestValue.getShifts() > 0) {
-            return new ExecutionTimeResult(date.truncatedTo(DAYS).withMonth(1).withDayOfMonth(1).plusYears(nearestValue.getShifts()), false);
+    private ExecutionTimeResult getNextPotentialMonth(final ZonedDateTime date, final int lowestHour, final int lowestMinute, final int lowestSecond,
+            final SearchTrace trace) {
+        final int nextMonths = months.nextValue(date.getMonthValue());
+        if (nextMonths == FieldValueGenerator.NO_VALUE) {
+            return new ExecutionTimeResult(date.truncatedTo(DAYS).withMonth(1).withDayOfMonth(1).plusYears(1), false);
         }
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition,
-                ZonedDateTime.of(LocalDateTime.of(date.getYear(), nextMonths, 1, 0, 0), date.getZone()));
+        final Optional<TimeNode> optionalDays = generateDays(date.getYear(), nextMonths, trace);
         if (optionalDays.isPresent()) {
-            final List<Integer> days = optionalDays.get().getValues();
             return new ExecutionTimeResult(
-                    date.truncatedTo(SECONDS).withMonth(nextMonths).withDayOfMonth(days.get(0))
+                    date.truncatedTo(SECONDS).withMonth(nextMonths).withDayOfMonth(optionalDays.get().getLowestValue())
                             .with(LocalTime.of(lowestHour, lowestMinute, lowestSecond)), false);
         } else {
             return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
@@ -235,11 +662,11 @@ public class SingleExecutionTime implements ExecutionTime {
                                                            final int lowestMinute,
                                                            final int lowestSecond,
                                                            final TimeNode node) {
-        final NearestValue nearestValue = node.getNextValue(date.getDayOfMonth(), 0);
-        if (nearestValue.getShifts() > 0) {
-            return new ExecutionTimeResult(date.truncatedTo(DAYS).withDayOfMonth(1).plusMonths(nearestValue.getShifts()), false);
+        final long nearestValue = node.getNearestForwardValue(date.getDayOfMonth(), 0);
+        if (NearestValue.shifts(nearestValue) > 0) {
+            return new ExecutionTimeResult(date.truncatedTo(DAYS).withDayOfMonth(1).plusMonths(NearestValue.shifts(nearestValue)), false);
         }
-        return new ExecutionTimeResult(date.truncatedTo(SECONDS).withDayOfMonth(nearestValue.getValue())
+        return new ExecutionTimeResult(date.truncatedTo(SECONDS).withDayOfMonth(NearestValue.value(nearestValue))
                 .with(LocalTime.of(lowestHour, lowestMinute, lowestSecond)), false);
     }
 
@@ -255,12 +682,33 @@ public class SingleExecutionTime implements ExecutionTime {
         return getNextPotentialValue(date, seconds, ChronoField.SECOND_OF_MINUTE);
     }
 
+    /**
+     * Moves date forward to the closest allowed value of field, carrying into the higher field if needed.
+     * The distance is computed from the mask; if a zone offset transition falls within it, the date is
+     * moved one unit at a time instead, so local times skipped or repeated by the transition are handled.
+     */
     private static ExecutionTimeResult getNextPotentialValue(
             final ZonedDateTime date,
-            final TimeNode node,
+            final FieldMask mask,
             final TemporalField field) throws NoSuchValueException {
-        Set<Integer> values = new HashSet<>(node.values);
+        final TemporalUnit unit = field.getBaseUnit();
+        final int value = date.get(field);
+        final int nextValue = mask.nextValue(value + 1);
+        final long distance = nextValue == FieldValueGenerator.NO_VALUE
+                ? mask.first() + field.range().getMaximum() + 1 - value
+                : nextValue - value;
+
+        final ZonedDateTime newDate = date.plus(distance, unit);
+        if (hasOffsetTransition(date, newDate)) {
+            return stepToNextValue(date, mask, field);
+        }
+        return new ExecutionTimeResult(newDate.truncatedTo(unit), false);
+    }
 
+    private static ExecutionTimeResult stepToNextValue(
+            final ZonedDateTime date,
+            final FieldMask mask,
+            final TemporalField field) throws NoSuchValueException {
         TemporalUnit unit = field.getBaseUnit();
 
         long maximum = field.range().getMaximum();
@@ -271,7 +719,7 @@ public class SingleExecutionTime implements ExecutionTime {
         for (long i = 0; i < 2 * range; i++) {
             newDate = newDate.plus(1, unit);
 
-            if (values.contains(newDate.get(field))) {
+            if (mask.contains(newDate.get(field))) {
                 newDate = newDate
                         .truncatedTo(unit);
                 return new ExecutionTimeResult(newDate, false);
@@ -281,6 +729,18 @@ public class SingleExecutionTime implements ExecutionTime {
         throw new NoSuchValueException();
     }
 
+    /**
+     * Whether the zone offset changes after start, up to and including end.
+     */
+    private static boolean hasOffsetTransition(final ZonedDateTime start, final ZonedDateTime end) {
+        final ZoneRules rules = start.getZone().getRules();
+        if (rules.isFixedOffset()) {
+            return false;
+        }
+        final ZoneOffsetTransition transition = rules.nextTransition(start.toInstant());
+        return transition != null && transition.toEpochSecond() <= end.toEpochSecond();
+    }
+
     private ZonedDateTime toBeginOfNextMonth(final ZonedDateTime datetime) {
         return datetime.truncatedTo(DAYS).plusMonths(1).withDayOfMonth(1);
     }
@@ -288,134 +748,86 @@ public class SingleExecutionTime implements ExecutionTime {
     /**
      * If date is not match, will return previous closest match.
      * If date is match, will return this date.
+     * Each step moves straight to the previous candidate year, month, day, hour, minute or second, so the number of
+     * steps grows with the matching months within the search horizon rather than with the distance searched;
+     * years and months without matches are skipped in a single step.
      *
      * @param date - reference ZonedDateTime instance - never null;
      * @return ZonedDateTime instance, never null. Value obeys logic specified above.
-     * @throws NoSuchValueException if there is not previous year
+     * @throws NoSuchValueException if there is no match within the search horizon
      */
-    private ZonedDateTime previousClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
+    /**
+     * @param trace - counts the search steps; null if not counted.
+     */
+    private ZonedDateTime previousClosestMatch(final ZonedDateTime date, final SearchTrace trace) throws NoSuchValueException {
+        if (getFiringYearTypes() == 0) {
+            throw new NoSuchValueException();
+        }
         ExecutionTimeResult result = new ExecutionTimeResult(date, false);
 
         for (int i = 0; i < MAX_ITERATIONS; i++) {
+            traceStep(trace, null);
             result = potentialPreviousClosestMatch(result.getTime());
             if (result.isMatch()) {
                 return result.getTime();
             }
+            if (date.getYear() - result.getTime().getYear() > searchHorizonYears) {
+                throw new NoSuchValueException();
+            }
         }
         throw new NoSuchValueException();
     }
 
     private ExecutionTimeResult potentialPreviousClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
-        //int startyear = cronDefinition.getFieldDefinition(CronFieldName.YEAR).getConstraints().getStartRange();
-        //final List<Integer> year = yearsValueGenerator.generateCandidates(startyear, date.getYear());
-        final List<Integer> year = yearsValueGenerator.generateCandidates(date.getYear(), date.getYear());
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition, date);
-        TimeNode days;
-        if (optionalDays.isPresent() && optionalDays.get().getValues().stream().anyMatch(i -> i <= date.getDayOfMonth())) {
-            days = optionalDays.get();
-        } else {
-            return new ExecutionTimeResult(toEndOfPreviousMonth(date), false);
+        final int year = date.getYear();
+        if (!years.contains(year) || !isFiringYear(year)) {
+            return getPreviousPotentialYear(date);
         }
-        final int highestMonth = months.getValues().get(months.getValues().size() - 1);
-        final int highestDay = days.getValues().get(days.getValues().size() - 1);
-        final int highestHour = hours.getValues().get(hours.getValues().size() - 1);
-        final int highestMinute = minutes.getValues().get(minutes.getValues().size() - 1);
-        final int highestSecond = seconds.getValues().get(seconds.getValues().size() - 1);
-
-        if (year.isEmpty()) {
-            return getPreviousPotentialYear(date, days, highestMonth, highestDay, highestHour, highestMinute, highestSecond);
-        } else {
-            if(!year.contains(date.getYear())){
-                Optional<Integer> validprevyear = year.stream().filter(y->y<date.getYear()).max(Integer::compareTo);
-                if(validprevyear.isPresent()){
-                    int minus = date.getYear()-validprevyear.get();
-                    return getPreviousPotentialYear(date.minusYears(minus), days, highestMonth, highestDay, highestHour, highestMinute, highestSecond);
-                }else{
-                    return getPreviousPotentialYear(date.minusYears(1), days, highestMonth, highestDay, highestHour, highestMinute, highestSecond);
-                }
-            }
+        if (!months.contains(date.getMonthValue())) {
+            return getPreviousPotentialMonth(date);
         }
-
-        if (!months.getValues().contains(date.getMonthValue())) {
-            return getPreviousPotentialMonth(date, highestDay, highestHour, highestMinute, highestSecond);
+        final int day = FieldMask.previous(daysOfMonthMask(year, date.getMonthValue()), date.getDayOfMonth());
+        if (day == FieldValueGenerator.NO_VALUE) {
+            return new ExecutionTimeResult(toEndOfPreviousMonth(date), false);
         }
-        if (!days.getValues().contains(date.getDayOfMonth())) {
-            return getPreviousPotentialDayOfMonth(date, days, highestHour, highestMinute, highestSecond);
+        if (day != date.getDayOfMonth()) {
+            return new ExecutionTimeResult(date.withDayOfMonth(day)
+                    .with(LocalTime.of(hours.last(), minutes.last(), seconds.last())).truncatedTo(SECONDS), false);
         }
-        if (!hours.getValues().contains(date.getHour())) {
+        if (!hours.contains(date.getHour())) {
             return getPreviousPotentialHour(date);
         }
-        if (!minutes.getValues().contains(date.getMinute())) {
+        if (!minutes.contains(date.getMinute())) {
             return getPreviousPotentialMinute(date);
         }
-        if (!seconds.getValues().contains(date.getSecond())) {
+        if (!seconds.contains(date.getSecond())) {
             return getPreviousPotentialSecond(date);
         }
         return new ExecutionTimeResult(date.truncatedTo(SECONDS), true);
     }
 
-    private ExecutionTimeResult getPreviousPotentialYear(final ZonedDateTime date, final TimeNode days, final int highestMonth, int highestDay,
-            final int highestHour, final int highestMinute, final int highestSecond) throws NoSuchValueException {
-        NearestValue nearestValue;
-        ZonedDateTime newDate;
-        final int previousYear = yearsValueGenerator.generatePreviousValue(date.getYear());
-        if (highestDay > 28) {
-            final int highestDayOfMonth = LocalDate.of(previousYear, highestMonth, 1).lengthOfMonth();
-            if (highestDay > highestDayOfMonth) {
-                nearestValue = days.getPreviousValue(highestDay, 1);
-                if (nearestValue.getShifts() > 0) {
-                    newDate = ZonedDateTime.of(
-                            LocalDate.of(previousYear, highestMonth, 1),
-                            MAX_SECONDS,
-                            date.getZone()
-                    ).minusMonths(nearestValue.getShifts()).with(lastDayOfMonth());
-                    return new ExecutionTimeResult(newDate, false);
-                } else {
-                    highestDay = nearestValue.getValue();
-                }
-            }
-        }
-        return new ExecutionTimeResult(ZonedDateTime.of(
-                LocalDate.of(previousYear, highestMonth, highestDay),
-                LocalTime.of(highestHour, highestMinute, highestSecond),
-                date.getZone()),
-                false);
-    }
-
-    private ExecutionTimeResult getPreviousPotentialMonth(final ZonedDateTime date, final int highestDay, final int highestHour,
-            final int highestMinute, final int highestSecond) {
-        NearestValue nearestValue;
-        ZonedDateTime newDate;
-        nearestValue = months.getPreviousValue(date.getMonthValue(), 0);
-        final int previousMonths = nearestValue.getValue();
-        if (nearestValue.getShifts() > 0) {
-            newDate = ZonedDateTime.of(
-                    LocalDate.of(date.getYear(), 12, 31),
-                    MAX_SECONDS,
-                    date.getZone()
-            ).minusYears(nearestValue.getShifts());
-            return new ExecutionTimeResult(newDate, false);
-        }
-        else {
-            newDate = ZonedDateTime.of(date.getYear(), date.getMonthValue(), 1, 0, 0, 0, 0, date.getZone()).minusNanos(1);
-
-            return new ExecutionTimeResult(newDate, false);
+    /**
+     * Moves date to the end of the previous year the cron allows.
+     *
+     * @throws NoSuchValueException if there is no such year
+     */
+    private ExecutionTimeResult getPreviousPotentialYear(final ZonedDateTime date) throws NoSuchValueException {
+        final int previousYear = years.previous(date.getYear());
+        if (previousYear == FieldValueGenerator.NO_VALUE) {
+            throw new NoSuchValueException();
         }
+        return new ExecutionTimeResult(toEndOfMonth(previousYear, 12, date.getZone()), false);
     }
 
-    private ExecutionTimeResult getPreviousPotentialDayOfMonth(final ZonedDateTime date, final TimeNode days, final int highestHour, final int highestMinute,
-            final int highestSecond) {
-        NearestValue nearestValue = days.getPreviousValue(date.getDayOfMonth(), 0);
-        if (nearestValue.getShifts() > 0) {
-            ZonedDateTime newDate = ZonedDateTime.of(
-                    LocalDate.of(date.getYear(), date.getMonthValue(), 1),
-                    MAX_SECONDS,
-                    date.getZone()
-            ).minusMonths(nearestValue.getShifts()).with(lastDayOfMonth());
-            return new ExecutionTimeResult(newDate, false);
+    /**
+     * Moves date to the end of the previous month the cron allows, in the same year or the year before.
+     */
+    private ExecutionTimeResult getPreviousPotentialMonth(final ZonedDateTime date) {
+        final int previousMonth = months.previousValue(date.getMonthValue());
+        if (previousMonth == FieldValueGenerator.NO_VALUE) {
+            return new ExecutionTimeResult(toEndOfMonth(date.getYear() - 1, months.last(), date.getZone()), false);
         }
-        return new ExecutionTimeResult(date.withDayOfMonth(nearestValue.getValue())
-                .with(LocalTime.of(highestHour, highestMinute, highestSecond)).truncatedTo(SECONDS), false);
+        return new ExecutionTimeResult(toEndOfMonth(date.getYear(), previousMonth, date.getZone()), false);
     }
 
     private ExecutionTimeResult getPreviousPotentialHour(final ZonedDateTime date) throws NoSuchValueException {
@@ -430,12 +842,35 @@ public class SingleExecutionTime implements ExecutionTime {
         return getPreviousPotentialValue(date, seconds, ChronoField.SECOND_OF_MINUTE);
     }
 
+    /**
+     * Moves date backwards to the closest allowed value of field, borrowing from the higher field if needed.
+     * Mirrors {@link #getNextPotentialValue(ZonedDateTime, FieldMask, TemporalField)}.
+     */
     private static ExecutionTimeResult getPreviousPotentialValue(
             final ZonedDateTime date,
-            final TimeNode node,
+            final FieldMask mask,
             final TemporalField field) throws NoSuchValueException {
-        Set<Integer> values = new HashSet<>(node.values);
+        final TemporalUnit unit = field.getBaseUnit();
+        final int value = date.get(field);
+        final int previousValue = mask.previousValue(value - 1);
+        final long distance = previousValue == FieldValueGenerator.NO_VALUE
+                ? value + field.range().getMaximum() + 1 - mask.last()
+                : value - previousValue;
+
+        final ZonedDateTime newDate = date.minus(distance, unit);
+        if (hasOffsetTransition(newDate, date)) {
+            return stepToPreviousValue(date, mask, field);
+        }
+        return new ExecutionTimeResult(newDate
+                .truncatedTo(unit)
+                .plus(1, unit)
+                .minusSeconds(1), false);
+    }
 
+    private static ExecutionTimeResult stepToPreviousValue(
+            final ZonedDateTime date,
+            final FieldMask mask,
+            final TemporalField field) throws NoSuchValueException {
         TemporalUnit unit = field.getBaseUnit();
 
         long maximum = field.range().getMaximum();
@@ -446,7 +881,7 @@ public class SingleExecutionTime implements ExecutionTime {
         for (long i = 0; i < 2 * range; i++) {
             newDate = newDate.minus(1, unit);
 
-            if (values.contains(newDate.get(field))) {
+            if (mask.contains(newDate.get(field))) {
                 newDate = newDate
                         .truncatedTo(unit)
                         .plus(1, unit)
@@ -458,29 +893,107 @@ public class SingleExecutionTime implements ExecutionTime {
         throw new NoSuchValueException();
     }
 
+    /**
+     * @return last day of given month, at the highest hour, minute and second allowed
+     */
+    private ZonedDateTime toEndOfMonth(final int year, final int month, final ZoneId zone) {
+        return ZonedDateTime.of(year, month, LocalFields.lengthOfMonth(year, month), hours.last(), minutes.last(), seconds.last(), 0, zone);
+    }
+
     private ZonedDateTime toEndOfPreviousMonth(final ZonedDateTime datetime) {
         final ZonedDateTime previousMonth = datetime.minusMonths(1).with(lastDayOfMonth());
-        final int highestHour = hours.getValues().get(hours.getValues().size() - 1);
-        final int highestMinute = minutes.getValues().get(minutes.getValues().size() - 1);
-        final int highestSecond = seconds.getValues().get(seconds.getValues().size() - 1);
+        final int highestHour = hours.last();
+        final int highestMinute = minutes.last();
+        final int highestSecond = seconds.last();
         return ZonedDateTime
                 .of(previousMonth.getYear(), previousMonth.getMonth().getValue(), previousMonth.getDayOfMonth(), highestHour, highestMinute, highestSecond, 0,
                         previousMonth.getZone());
     }
 
-    private Optional<TimeNode> generateDays(final CronDefinition cronDefinition, final ZonedDateTime date) {
+    private boolean isFiringYear(final int year) {
+        return (getFiringYearTypes() & 1 << YearType.of(year)) != 0;
+    }
+
+    private int getFiringYearTypes() {
+        int types = firingYearTypes;
+        if (types == NOT_ANALYSED) {
+            types = analyseFiringYearTypes();
+            firingYearTypes = types;
+        }
+        return types;
+    }
+
+    /**
+     * Days of month depend only on the calendar of the year, so checking a year of each {@link YearType} finds
+     * every year the cron can execute in. Crons such as "0 0 30 2 *" get no year type, and never execute.
+     * The year field is left to the search: it may only allow years of types without executions.
+     */
+    private int analyseFiringYearTypes() {
+        int types = 0;
+        for (int type = 0; type < YearType.COUNT; type++) {
+            final int year = YearType.representativeYear(type);
+            for (long remaining = months.getMask(); remaining != 0; remaining &= remaining - 1) {
+                if (computeDaysOfMonthMask(year, Long.numberOfTrailingZeros(remaining), null) != 0) {
+                    types |= 1 << type;
+                    break;
+                }
+            }
+        }
+        return types;
+    }
+
+    private Optional<TimeNode> generateDays(final int year, final int month, final SearchTrace trace) {
+        final long mask = daysOfMonthMask(year, month, trace);
+        return mask == 0 ? Optional.empty() : Optional.of(new TimeNode(FieldMask.toArray(mask)));
+    }
+
+    /**
+     * @return mask of the days of month matching the cron; bit n is set if day n matches.
+     */
+    long daysOfMonthMask(final int year, final int month) {
+        return daysOfMonthMask(year, month, null);
+    }
+
+    /**
+     * @param trace - trace counting the months whose days are generated rather than found in the cache; may be null
+     * @return mask of the days of month matching the cron; bit n is set if day n matches.
+     */
+    private long daysOfMonthMask(final int year, final int month, final SearchTrace trace) {
+        if (year < 0 || year > MAX_CACHED_YEAR) {
+            return computeDaysOfMonthMask(year, month, trace);
+        }
+        final int key = year * 12 + month - 1;
+        final int slot = key & (DAYS_CACHE_SIZE - 1);
+        final long entry = daysCache.get(slot);
+        if ((entry & 1) != 0 && (int) (entry >>> 32) == key) {
+            if (metrics != CronMetrics.NO_OP) {
+                metrics.cacheHit(cron, CronMetrics.Cache.DAYS_OF_MONTH);
+            }
+            return entry & 0xFFFFFFFEL;
+        }
+        if (metrics != CronMetrics.NO_OP) {
+            metrics.cacheMiss(cron, CronMetrics.Cache.DAYS_OF_MONTH);
+        }
+        final long mask = computeDaysOfMonthMask(year, month, trace);
+        daysCache.set(slot, (long) key << 32 | mask | 1);
+        return mask;
+    }
+
+    private long computeDaysOfMonthMask(final int year, final int month, final SearchTrace trace) {
+        if (trace != null) {
+            trace.dayCandidatesGenerated();
+        }
         if (isGenerateDaysAsDoY(cronDefinition)) {
-            return generateDayCandidatesUsingDoY(date);
+            return generateDayCandidatesUsingDoY(year, month);
         }
         //If DoW is not supported in custom definition, we just return an empty list.
         if (cronDefinition.getFieldDefinition(DAY_OF_WEEK) != null && cronDefinition.getFieldDefinition(DAY_OF_MONTH) != null) {
-            return generateDaysDoWAndDoMSupported(cronDefinition, date);
+            return generateDaysDoWAndDoMSupported(cronDefinition, year, month);
         }
         if (cronDefinition.getFieldDefinition(DAY_OF_WEEK) == null) {
-            return generateDayCandidatesUsingDoM(date);
+            return generateDayCandidatesUsingDoM(year, month);
         }
-        return Optional
-                .of(generateDayCandidatesUsingDoW(date, ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue()));
+        return generateDayCandidatesUsingDoW(year, month);
     }
 
     private boolean isGenerateDaysAsDoY(final CronDefinition cronDefinition) {
@@ -495,43 +1008,41 @@ public class SingleExecutionTime implements ExecutionTime {
         return !(daysOfYearCronField.getExpression() instanceof QuestionMark);
     }
 
-    private Optional<TimeNode> generateDayCandidatesUsingDoY(final ZonedDateTime reference) {
-        final int year = reference.getYear();
-        final int month = reference.getMonthValue();
-        final LocalDate date = LocalDate.of(year, 1, 1);
-        final int lengthOfYear = date.lengthOfYear();
-
-        final List<Integer> candidates = createDayOfYearValueGeneratorInstance(daysOfYearCronField, year).generateCandidates(1, lengthOfYear);
-
-        final int low = LocalDate.of(year, month, 1).getDayOfYear();
-        final int high = month == 12
-                ? LocalDate.of(year, 12, 31).getDayOfYear() + 1
-                : LocalDate.of(year, month + 1, 1).getDayOfYear();
-
-        final List<Integer> collectedCandidates = candidates.stream().filter(dayOfYear -> dayOfYear >= low && dayOfYear < high)
-                .map(dayOfYear -> LocalDate.ofYearDay(reference.getYear(), dayOfYear).getDayOfMonth())
-                .collect(Collectors.toList());
+    /**
+     * Slices the days of given month out of the compiled days of year.
+     */
+    private long generateDayCandidatesUsingDoY(final int year, final int month) {
+        long[][] compiled = daysOfYear;
+        if (compiled == null) {
+            // days of year do not depend on the year, only on its length
+            compiled = new long[][] {compileDaysOfYear(2001), compileDaysOfYear(2000)};
+            daysOfYear = compiled;
+        }
+        final long[] days = compiled[LocalFields.isLeapYear(year) ? 1 : 0];
+        final int firstDayOfMonth = (int) (LocalFields.toEpochDay(year, month, 1) - LocalFields.toEpochDay(year, 1, 1)) + 1;
+        final int word = firstDayOfMonth >>> 6;
+        final int offset = firstDayOfMonth & 63;
+        long slice = days[word] >>> offset;
+        if (offset != 0 && word + 1 < days.length) {
+            slice |= days[word + 1] << (64 - offset);
+        }
+        return (slice & ((1L << LocalFields.lengthOfMonth(year, month)) - 1)) << 1;
+    }
 
-        return Optional.of(collectedCandidates).filter(not(List::isEmpty)).map(TimeNode::new);
+    /**
+     * @return days of year matching the cron in given year, as a bit set: bit n of word n / 64 is set if day n matches.
+     */
+    private long[] compileDaysOfYear(final int year) {
+        final int lengthOfYear = LocalFields.isLeapYear(year) ? 366 : 365;
+        return createDayOfYearValueGeneratorInstance(daysOfYearCronField, year).generateCandidateMask(1, lengthOfYear);
     }
 
-    private Optional<TimeNode> generateDaysDoWAndDoMSupported(final CronDefinition cronDefinition, final ZonedDateTime date) {
+    private long generateDaysDoWAndDoMSupported(final CronDefinition cronDefinition, final int year, final int month) {
         final boolean questionMarkSupported = cronDefinition.getFieldDefinition(DAY_OF_WEEK).getConstraints().getSpecialChars().contains(QUESTION_MARK);
         if (questionMarkSupported) {
-            final List<Integer> candidates = generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(
-                    date.getYear(),
-                    date.getMonthValue(),
-                    ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue()
-            );
-            return Optional.of(candidates).filter(not(List::isEmpty)).map(TimeNode::new);
+            return generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(year, month);
         } else {
-            final List<Integer> candidates = generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(
-                    date.getYear(), date.getMonthValue(),
-                    ((DayOfWeekFieldDefinition)
-                            cronDefinition.getFieldDefinition(DAY_OF_WEEK)
-                    ).getMondayDoWValue()
-            );
-            return Optional.of(candidates).filter(not(List::isEmpty)).map(TimeNode::new);
+            return generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(year, month);
         }
     }
 
@@ -554,10 +1065,24 @@ public class SingleExecutionTime implements ExecutionTime {
      */
     public Optional<ZonedDateTime> lastExecution(final ZonedDateTime date) {
         Preconditions.checkNotNull(date);
+        if (metrics == CronMetrics.NO_OP) {
+            return searchLastExecution(date, null);
+        }
+        final long start = System.nanoTime();
+        final SearchTrace trace = new SearchTrace();
+        final Optional<ZonedDateTime> last = searchLastExecution(date, trace);
+        report(CronMetrics.Operation.LAST_EXECUTION, start, trace, last.isPresent());
+        return last;
+    }
+
+    /**
+     * @param trace - counts the search steps; null if not counted.
+     */
+    private Optional<ZonedDateTime> searchLastExecution(final ZonedDateTime date, final SearchTrace trace) {
         try {
-            ZonedDateTime previousMatch = previousClosestMatch(date);
+            ZonedDateTime previousMatch = previousClosestMatch(date, trace);
             if (previousMatch.equals(date)) {
-                previousMatch = previousClosestMatch(date.minusSeconds(1));
+                previousMatch = previousClosestMatch(date.minusSeconds(1), trace);
             }
             return Optional.of(previousMatch);
         } catch (final NoSuchValueException e) {
@@ -575,13 +1100,161 @@ public class SingleExecutionTime implements ExecutionTime {
         return lastExecution(date).map(zonedDateTime -> Duration.between(zonedDateTime, date));
     }
 
+    /**
+     * Provide count of times cron expression would execute between given start and end dates.
+     * Executions are counted per day, multiplying the matching hours, minutes and seconds, instead of being enumerated.
+     * Each span between zone offset transitions is counted on local date-times, so local times skipped by a daylight
+     * saving gap are not counted and those repeated by an overlap are counted twice, as in
+     * {@link #getExecutionDates(ZonedDateTime, ZonedDateTime)}.
+     *
+     * @param startDate - Start date. If null, a NullPointerException will be raised.
+     * @param endDate - End date. If null, a NullPointerException will be raised.
+     * @return count of executions
+     */
+    @Override
+    public int countExecutions(final ZonedDateTime startDate, final ZonedDateTime endDate) {
+        if (endDate.equals(startDate) || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate should take place later in time than startDate");
+        }
+        if (getFiringYearTypes() == 0) {
+            return 0;
+        }
+        final ZoneRules rules = startDate.getZone().getRules();
+        // executions fall on whole seconds, so those after startDate are those after its second
+        final long startEpochSecond = startDate.toEpochSecond();
+        final long endEpochSecond = endDate.toEpochSecond();
+        long count = 0;
+        long fromEpochSecond = startEpochSecond;
+        int offset = rules.getOffset(startDate.toInstant()).getTotalSeconds();
+        ZoneOffsetTransition transition = rules.nextTransition(startDate.toInstant());
+        while (transition != null && transition.toEpochSecond() <= endEpochSecond) {
+            final long transitionEpochSecond = transition.toEpochSecond();
+            count += countLocalMatches(fromEpochSecond + offset + 1, transitionEpochSecond - 1 + offset);
+            if (transition.isOverlap() && isOverlapExecutionSkipped(transition, startEpochSecond, endEpochSecond)) {
+                count--;
+            }
+            fromEpochSecond = transitionEpochSecond - 1;
+            offset = transition.getOffsetAfter().getTotalSeconds();
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        return Math.toIntExact(count + countLocalMatches(fromEpochSecond + offset + 1, endEpochSecond + offset));
+    }
+
+    /**
+     * Tells if the first execution after a daylight saving overlap is skipped, as {@link #nextExecution(ZonedDateTime)}
+     * does for executions less frequent than hourly (issue #446): it follows an execution before the overlap by one
+     * hour at most, and is followed by the next one two hours later or more.
+     */
+    private boolean isOverlapExecutionSkipped(final ZoneOffsetTransition transition, final long startEpochSecond, final long endEpochSecond) {
+        final long transitionEpochSecond = transition.toEpochSecond();
+        final int offsetBefore = transition.getOffsetBefore().getTotalSeconds();
+        final int offsetAfter = transition.getOffsetAfter().getTotalSeconds();
+        final long previous = previousLocalMatch(transitionEpochSecond - 1 + offsetBefore, null);
+        final long next = nextLocalMatch(transitionEpochSecond + offsetAfter, null);
+        if (previous == NO_EXECUTION || next == NO_EXECUTION) {
+            return false;
+        }
+        final long previousEpochSecond = previous - offsetBefore;
+        final long nextEpochSecond = next - offsetAfter;
+        if (previousEpochSecond < startEpochSecond || nextEpochSecond > endEpochSecond
+                || nextEpochSecond - previousEpochSecond > LocalFields.SECONDS_PER_HOUR) {
+            return false;
+        }
+        final long following = nextLocalMatch(next + 1, null);
+        return following != NO_EXECUTION && following - next >= 2 * LocalFields.SECONDS_PER_HOUR;
+    }
+
+    /**
+     * Counts local date-times matching the cron, between given local epoch seconds, both inclusive.
+     */
+    private long countLocalMatches(final long fromLocalEpochSecond, final long toLocalEpochSecond) {
+        if (fromLocalEpochSecond > toLocalEpochSecond) {
+            return 0;
+        }
+        final long fromDay = Math.floorDiv(fromLocalEpochSecond, LocalFields.SECONDS_PER_DAY);
+        final long toDay = Math.floorDiv(toLocalEpochSecond, LocalFields.SECONDS_PER_DAY);
+        final int fromSecondOfDay = (int) Math.floorMod(fromLocalEpochSecond, LocalFields.SECONDS_PER_DAY);
+        final int toSecondOfDay = (int) Math.floorMod(toLocalEpochSecond, LocalFields.SECONDS_PER_DAY);
+        if (fromDay == toDay) {
+            return isMatchingDay(fromDay) ? countTimesOfDay(toSecondOfDay) - countTimesOfDay(fromSecondOfDay - 1) : 0;
+        }
+        long count = 0;
+        if (isMatchingDay(fromDay)) {
+            count += countTimesOfDay(LocalFields.SECONDS_PER_DAY - 1) - countTimesOfDay(fromSecondOfDay - 1);
+        }
+        if (isMatchingDay(toDay)) {
+            count += countTimesOfDay(toSecondOfDay);
+        }
+        return count + countMatchingDays(fromDay + 1, toDay - 1) * countTimesOfDay(LocalFields.SECONDS_PER_DAY - 1);
+    }
+
+    private boolean isMatchingDay(final long epochDay) {
+        final long date = LocalFields.toDate(epochDay);
+        final int year = LocalFields.year(date);
+        final int month = LocalFields.month(date);
+        return years.contains(year) && months.contains(month)
+                && FieldMask.contains(daysOfMonthMask(year, month), LocalFields.day(date));
+    }
+
+    /**
+     * Counts days matching the cron between given epoch days, both inclusive. Works a month at a time.
+     */
+    private long countMatchingDays(final long fromEpochDay, final long toEpochDay) {
+        long count = 0;
+        long epochDay = fromEpochDay;
+        while (epochDay <= toEpochDay) {
+            final long date = LocalFields.toDate(epochDay);
+            final int year = LocalFields.year(date);
+            final int month = LocalFields.month(date);
+            final int day = LocalFields.day(date);
+            final int lengthOfMonth = LocalFields.lengthOfMonth(year, month);
+            final int lastDay = (int) Math.min(lengthOfMonth, day + toEpochDay - epochDay);
+            if (years.contains(year) && months.contains(month)) {
+                final long daysInRange = (-1L << day) & ~(-2L << lastDay);
+                count += Long.bitCount(daysOfMonthMask(year, month) & daysInRange);
+            }
+            epochDay += lengthOfMonth - day + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Counts times of day matching hours, minutes and seconds, up to given second of day, inclusive.
+     */
+    private long countTimesOfDay(final int secondOfDay) {
+        if (secondOfDay < 0) {
+            return 0;
+        }
+        final int hour = secondOfDay / LocalFields.SECONDS_PER_HOUR;
+        final int minute = secondOfDay / LocalFields.SECONDS_PER_MINUTE % 60;
+        final int second = secondOfDay % LocalFields.SECONDS_PER_MINUTE;
+        long count = (long) Long.bitCount(hours.getMask() & ((1L << hour) - 1)) * minutes.size() * seconds.size();
+        if (hours.contains(hour)) {
+            count += (long) Long.bitCount(minutes.getMask() & ((1L << minute) - 1)) * seconds.size();
+            if (minutes.contains(minute)) {
+                count += Long.bitCount(seconds.getMask() & ~(-2L << second));
+            }
+        }
+        return count;
+    }
+
     /**
      * Provide feedback if a given date matches the cron expression.
      *
      * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
      * @return true if date matches cron expression requirements, false otherwise.
      */
-    public boolean isMatch(ZonedDateTime date) {
+    public boolean isMatch(final ZonedDateTime date) {
+        if (metrics == CronMetrics.NO_OP) {
+            return matches(date);
+        }
+        final long start = System.nanoTime();
+        final boolean match = matches(date);
+        metrics.timed(cron, CronMetrics.Operation.IS_MATCH, System.nanoTime() - start);
+        return match;
+    }
+
+    private boolean matches(ZonedDateTime date) {
         // Issue #200: Truncating the date to the least granular precision supported by different cron systems.
         // For Quartz, it's seconds while for Unix & Cron4J it's minutes.
         final boolean isSecondGranularity = cronDefinition.containsFieldDefinition(SECOND);
@@ -591,20 +1264,43 @@ public class SingleExecutionTime implements ExecutionTime {
             date = date.truncatedTo(ChronoUnit.MINUTES);
         }
 
-        final Optional<ZonedDateTime> last = lastExecution(date);
+        final long epochSecond = date.toEpochSecond();
+        if (directMatch && isOffsetStable(date.getZone().getRules(), epochSecond, epochSecond)) {
+            return isLocalMatch(epochSecond + date.getOffset().getTotalSeconds());
+        }
+        return isMatchBySearch(date);
+    }
+
+    /**
+     * Checks each field of a local date-time against the values the cron allows.
+     */
+    private boolean isLocalMatch(final long localEpochSecond) {
+        final int secondOfDay = (int) Math.floorMod(localEpochSecond, LocalFields.SECONDS_PER_DAY);
+        return seconds.contains(secondOfDay % LocalFields.SECONDS_PER_MINUTE)
+                && minutes.contains(secondOfDay / LocalFields.SECONDS_PER_MINUTE % 60)
+                && hours.contains(secondOfDay / LocalFields.SECONDS_PER_HOUR)
+                && isMatchingDay(Math.floorDiv(localEpochSecond, LocalFields.SECONDS_PER_DAY));
+    }
+
+    /**
+     * Checks a date by searching the executions around it. Local date-times near a zone offset transition may be
+     * skipped or repeated, so such dates are resolved the way the search resolves them.
+     */
+    private boolean isMatchBySearch(final ZonedDateTime date) {
+        final Optional<ZonedDateTime> last = searchLastExecution(date, null);
         if (last.isPresent()) {
-            final Optional<ZonedDateTime> next = nextExecution(last.get());
+            final Optional<ZonedDateTime> next = searchNextExecution(last.get());
             if (next.isPresent()) {
                 return next.get().equals(date);
             } else {
                 boolean everythingInRange = false;
                 try {
-                    everythingInRange = dateValuesInExpectedRanges(nextClosestMatch(date), date);
+                    everythingInRange = dateValuesInExpectedRanges(nextClosestMatch(date, null), date);
                 } catch (final NoSuchValueException ignored) {
                     // Why is this ignored?
                 }
                 try {
-                    everythingInRange = dateValuesInExpectedRanges(previousClosestMatch(date), date);
+                    everythingInRange = dateValuesInExpectedRanges(previousClosestMatch(date, null), date);
                 } catch (final NoSuchValueException ignored) {
                     // Why is this ignored?
                 }
@@ -612,7 +1308,7 @@ public class SingleExecutionTime implements ExecutionTime {
             }
         } else {
             try {
-                return dateValuesInExpectedRanges(nextClosestMatch(date.minusSeconds(1)), date);
+                return dateValuesInExpectedRanges(nextClosestMatch(date.minusSeconds(1), null), date);
             } catch (final NoSuchValueException ignored) {
                 // Why is this ignored?
             }
@@ -646,88 +1342,178 @@ public class SingleExecutionTime implements ExecutionTime {
         return everythingInRange;
     }
 
-    private List<Integer> generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
-        final LocalDate date = LocalDate.of(year, month, 1);
-        final int lengthOfMonth = date.lengthOfMonth();
+    private long generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(final int year, final int month) {
         if (daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+            return generateDayCandidatesUsingDoM(year, month);
         } else if (daysOfMonthCronField.getExpression() instanceof Always) {
-            return createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+            return generateDayCandidatesUsingDoW(year, month);
         } else if (daysOfWeekCronField.getExpression() instanceof Always) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+            return generateDayCandidatesUsingDoM(year, month);
+        } else if (cronDefinition.isMatchDayOfWeekAndDayOfMonth()) {
+            return generateDayCandidatesUsingDoM(year, month) & generateDayCandidatesUsingDoW(year, month);
         } else {
-            final List<Integer> dayOfWeekCandidates = createDayOfWeekValueGeneratorInstance(daysOfWeekCronField,
-                    year, month, mondayDoWValue).generateCandidates(1, lengthOfMonth);
-            final List<Integer> dayOfMonthCandidates = createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth);
-            if (cronDefinition.isMatchDayOfWeekAndDayOfMonth()) {
-                final Set<Integer> intersection = new HashSet<>(dayOfWeekCandidates);
-                return dayOfMonthCandidates
-                        .stream().filter(intersection::contains)
-                        .distinct().sorted()
-                        .collect(Collectors.toList());
-            } else {
-                return Stream.concat(dayOfWeekCandidates.stream(), dayOfMonthCandidates.stream())
-                        .distinct().sorted()
-                        .collect(Collectors.toList());
-            }
+            return generateDayCandidatesUsingDoM(year, month) | generateDayCandidatesUsingDoW(year, month);
         }
     }
 
-    private List<Integer> generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
-        final LocalDate date = LocalDate.of(year, month, 1);
-        final int lengthOfMonth = date.lengthOfMonth();
+    private long generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(final int year, final int month) {
         if (daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+            return generateDayCandidatesUsingDoM(year, month);
         } else if (daysOfMonthCronField.getExpression() instanceof QuestionMark) {
-            return createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+            return generateDayCandidatesUsingDoW(year, month);
         } else if (daysOfWeekCronField.getExpression() instanceof QuestionMark) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+            return generateDayCandidatesUsingDoM(year, month);
         } else {
-            Set<Integer> candidates = new HashSet<>(createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, lengthOfMonth));
-            Set<Integer> daysOfWeek = new HashSet<>(createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).generateCandidates(1, lengthOfMonth));
             // Only the intersection of valid days from the days of week and valid days of month should be returned.
-            candidates.retainAll(daysOfWeek);
-            return candidates.stream().sorted().collect(Collectors.toList());
+            return generateDayCandidatesUsingDoM(year, month) & generateDayCandidatesUsingDoW(year, month);
         }
     }
 
-    private Optional<TimeNode> generateDayCandidatesUsingDoM(final ZonedDateTime reference) {
-        final LocalDate date = LocalDate.of(reference.getYear(), reference.getMonthValue(), 1);
-        final int lengthOfMonth = date.lengthOfMonth();
-        final List<Integer> candidates = createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, reference.getYear(), reference.getMonthValue())
-                .generateCandidates(1, lengthOfMonth)
-                .stream().distinct().sorted()
-                .collect(Collectors.toList());
-        return candidates.isEmpty() ? Optional.empty() : Optional.of(new TimeNode(candidates));
+    private long generateDayCandidatesUsingDoW(final int year, final int month) {
+        DayOfWeekTable table = daysOfWeekTable;
+        if (table == null) {
+            table = new DayOfWeekTable(daysOfWeekCronField,
+                    ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue());
+            daysOfWeekTable = table;
+        }
+        return table.daysOfMonth(year, month);
+    }
+
+    private long generateDayCandidatesUsingDoM(final int year, final int month) {
+        return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
+                .generateCandidateMask(1, LocalFields.lengthOfMonth(year, month))[0];
     }
 
-    private TimeNode generateDayCandidatesUsingDoW(final ZonedDateTime reference, final WeekDay mondayDoWValue) {
-        final LocalDate date = LocalDate.of(reference.getYear(), reference.getMonthValue(), 1);
-        final int lengthOfMonth = date.lengthOfMonth();
-        final List<Integer> candidates = createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, reference.getYear(), reference.getMonthValue(), mondayDoWValue)
-                .generateCandidates(1, lengthOfMonth)
-                .stream().distinct().sorted()
-                .collect(Collectors.toList());
-        return new TimeNode(candidates);
+    /**
+     * Cursor moving the local date-time fields of the last execution to the next one.
+     */
+    private final class OdometerCursor implements CronCursor {
+        private final ZoneId zone;
+        private final ZoneRules rules;
+        private long current;
+        /**
+         * Whether the fields below hold the local date-time of the current execution, so the next one can be reached by a step.
+         */
+        private boolean synced;
+        private int offset;
+        /**
+         * Executions before this instant are at least a margin away from a zone offset transition.
+         */
+        private long stableUntil;
+        private int maxYear;
+        private int year;
+        private int month;
+        private int day;
+        private int hour;
+        private int minute;
+        private int second;
+        private long daysOfMonth;
+
+        private OdometerCursor(final long epochSecond, final ZoneId zone) {
+            this.zone = Preconditions.checkNotNull(zone);
+            this.rules = zone.getRules();
+            this.current = epochSecond;
+        }
+
+        @Override
+        public long nextEpochSecond() {
+            if (current == NO_EXECUTION) {
+                return NO_EXECUTION;
+            }
+            final long localMatch = synced ? step() : sync();
+            if (localMatch != NO_EXECUTION && localMatch - offset < stableUntil) {
+                current = localMatch - offset;
+                synced = true;
+                return current;
+            }
+            current = searchNextExecutionEpochSecond(current, zone, null);
+            synced = false;
+            return current;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        /**
+         * Searches the next local match from the current execution, and sets the fields to it.
+         */
+        private long sync() {
+            offset = rules.getOffset(Instant.ofEpochSecond(current)).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                stableUntil = Long.MAX_VALUE;
+            } else {
+                final ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(current - OFFSET_STABILITY_MARGIN));
+                stableUntil = transition == null ? Long.MAX_VALUE : transition.toEpochSecond() - OFFSET_STABILITY_MARGIN;
+            }
+            final long localMatch = nextLocalMatch(current + offset + 1, null);
+            if (localMatch != NO_EXECUTION) {
+                final long date = LocalFields.toDate(Math.floorDiv(localMatch, LocalFields.SECONDS_PER_DAY));
+                final int secondOfDay = (int) Math.floorMod(localMatch, LocalFields.SECONDS_PER_DAY);
+                year = LocalFields.year(date);
+                month = LocalFields.month(date);
+                day = LocalFields.day(date);
+                hour = secondOfDay / LocalFields.SECONDS_PER_HOUR;
+                minute = secondOfDay / LocalFields.SECONDS_PER_MINUTE % 60;
+                second = secondOfDay % LocalFields.SECONDS_PER_MINUTE;
+                daysOfMonth = daysOfMonthMask(year, month);
+            }
+            return localMatch;
+        }
+
+        /**
+         * Moves the fields to the next local match, carrying to the next field on wrap around.
+         */
+        private long step() {
+            maxYear = year + searchHorizonYears;
+            int next = seconds.nextValue(second + 1);
+            if (next != FieldValueGenerator.NO_VALUE) {
+                second = next;
+                return toLocalEpochSecond();
+            }
+            second = seconds.first();
+            next = minutes.nextValue(minute + 1);
+            if (next != FieldValueGenerator.NO_VALUE) {
+                minute = next;
+                return toLocalEpochSecond();
+            }
+            minute = minutes.first();
+            next = hours.nextValue(hour + 1);
+            if (next != FieldValueGenerator.NO_VALUE) {
+                hour = next;
+                return toLocalEpochSecond();
+            }
+            hour = hours.first();
+            next = FieldMask.next(daysOfMonth, day + 1);
+            while (next == FieldValueGenerator.NO_VALUE) {
+                if (!nextMonth()) {
+                    return NO_EXECUTION;
+                }
+                next = FieldMask.next(daysOfMonth, 1);
+            }
+            day = next;
+            return toLocalEpochSecond();
+        }
+
+        private boolean nextMonth() {
+            int next = months.nextValue(month + 1);
+            while (next == FieldValueGenerator.NO_VALUE) {
+                do {
+                    if (++year > maxYear) {
+                        return false;
+                    }
+                } while (!years.contains(year) || !isFiringYear(year));
+                next = months.first();
+            }
+            month = next;
+            daysOfMonth = daysOfMonthMask(year, month);
+            return true;
+        }
+
+        private long toLocalEpochSecond() {
+            return LocalFields.toEpochSecond(year, month, day, hour, minute, second);
+        }
     }
 
     private static final class ExecutionTimeResult {
@@ -17,28 +17,61 @@ import com.cronutils.utils.Preconditions;
 import com.cronutils.utils.VisibleForTesting;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 class TimeNode {
-    protected List<Integer> values;
+    protected final int[] values;
 
     public TimeNode(final List<Integer> values) {
-        this.values = Preconditions.checkNotNullNorEmpty(values, "Values must not be empty");
-        Collections.sort(this.values);
+        Preconditions.checkNotNullNorEmpty(values, "Values must not be empty");
+        this.values = new int[values.size()];
+        for (int j = 0; j < this.values.length; j++) {
+            this.values[j] = values.get(j);
+        }
+        Arrays.sort(this.values);
+    }
+
+    /**
+     * @param values - sorted values, not empty. The array is not copied, so it must not be modified afterwards.
+     */
+    TimeNode(final int[] values) {
+        Preconditions.checkArgument(values.length > 0, "Values must not be empty");
+        this.values = values;
     }
 
     public NearestValue getNextValue(final int reference, final int shifts) {
-        return getNearestForwardValue(reference, shifts);
+        final long nearest = getNearestForwardValue(reference, shifts);
+        return new NearestValue(NearestValue.value(nearest), NearestValue.shifts(nearest));
     }
 
     public List<Integer> getValues() {
-        return Collections.unmodifiableList(values);
+        final List<Integer> list = new ArrayList<>(values.length);
+        for (final int value : values) {
+            list.add(value);
+        }
+        return Collections.unmodifiableList(list);
     }
 
     public NearestValue getPreviousValue(final int reference, final int shifts) {
-        return getNearestBackwardValue(reference, shifts);
+        final long nearest = getNearestBackwardValue(reference, shifts);
+        return new NearestValue(NearestValue.value(nearest), NearestValue.shifts(nearest));
+    }
+
+    /**
+     * @param value - value to look for
+     * @return true if given value belongs to this node
+     */
+    boolean contains(final int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * @return lowest value of this node
+     */
+    int getLowestValue() {
+        return values[0];
     }
 
     /**
@@ -48,35 +81,22 @@ class TimeNode {
      *
      * @param reference     - reference value
      * @param shiftsToApply - shifts to apply
-     * @return NearestValue instance, never null. Holds information on nearest (forward) value and shifts performed.
+     * @return nearest (forward) value and shifts performed, packed as described in {@link NearestValue#pack(int, int)}.
      */
     @VisibleForTesting
-    NearestValue getNearestForwardValue(final int reference, int shiftsToApply) {
-        final List<Integer> temporaryValues = new ArrayList<>(this.values);
-        int index = 0;
-        boolean foundGreater = false;
-        final AtomicInteger shift = new AtomicInteger(0);
-        if (!temporaryValues.contains(reference)) {
-            for (final Integer value : temporaryValues) {
-                if (value > reference) {
-                    index = temporaryValues.indexOf(value);
-                    shiftsToApply--;//we just moved a position!
-                    foundGreater = true;
-                    break;
-                }
-            }
-            if (!foundGreater) {
-                shift.incrementAndGet();
+    long getNearestForwardValue(final int reference, int shiftsToApply) {
+        int index = Arrays.binarySearch(values, reference);
+        int shift = 0;
+        if (index < 0) {
+            index = -index - 1;
+            if (index < values.length) {
+                shiftsToApply--;//we just moved a position!
+            } else {
+                index = 0;
+                shift++;
             }
-        } else {
-            index = temporaryValues.indexOf(reference);
-        }
-        int value = temporaryValues.get(index);
-        for (int j = 0; j < shiftsToApply; j++) {
-            value = getValueFromList(temporaryValues, index + 1, shift);
-            index = temporaryValues.indexOf(value);
         }
-        return new NearestValue(value, shift.get());
+        return applyShifts(index, shiftsToApply, shift, false);
     }
 
     /**
@@ -86,59 +106,41 @@ class TimeNode {
      *
      * @param reference     - reference value
      * @param shiftsToApply - shifts to apply
-     * @return NearestValue instance, never null. Holds information on nearest (backward) value and shifts performed.
+     * @return nearest (backward) value and shifts performed, packed as described in {@link NearestValue#pack(int, int)}.
      */
     @VisibleForTesting
-    NearestValue getNearestBackwardValue(final int reference, int shiftsToApply) {
-        final List<Integer> temporaryValues = new ArrayList<>(this.values);
-        Collections.reverse(temporaryValues);
-        int index = 0;
-        boolean foundSmaller = false;
-        final AtomicInteger shift = new AtomicInteger(0);
-        if (!temporaryValues.contains(reference)) {
-            for (final Integer value : temporaryValues) {
-                if (value < reference) {
-                    index = temporaryValues.indexOf(value);
-                    shiftsToApply--;//we just moved a position!
-                    foundSmaller = true;
-                    break;
-                }
-            }
-            if (!foundSmaller) {
-                shift.incrementAndGet();
+    long getNearestBackwardValue(final int reference, int shiftsToApply) {
+        int index = Arrays.binarySearch(values, reference);
+        int shift = 0;
+        if (index < 0) {
+            index = -index - 2;
+            if (index >= 0) {
+                shiftsToApply--;//we just moved a position!
+            } else {
+                index = values.length - 1;
+                shift++;
             }
-        } else {
-            index = temporaryValues.indexOf(reference);
-        }
-        int value = temporaryValues.get(index);
-        for (int j = 0; j < shiftsToApply; j++) {
-            value = getValueFromList(temporaryValues, index + 1, shift);
-            index = temporaryValues.indexOf(value);
         }
-        return new NearestValue(value, shift.get());
+        return applyShifts(index, shiftsToApply, shift, true);
     }
 
     /**
-     * Obtain value from list considering specified index and required shifts.
+     * Moves given positions from index, wrapping around the values; each wrap counts as a shift.
      *
-     * @param values - possible values
-     * @param index  - index to be considered
-     * @param shift  - shifts that should be applied
-     * @return int - required value from values list
+     * @param index     - index to start from
+     * @param positions - positions to move; none if not positive
+     * @param shift     - shifts already performed
+     * @param backward  - true to move towards lower values
+     * @return value reached and total shifts, packed
      */
-    @VisibleForTesting
-    int getValueFromList(final List<Integer> values, int index, final AtomicInteger shift) {
-        Preconditions.checkNotNullNorEmpty(values, "List must not be empty");
-        if (index < 0) {
-            index = index + values.size();
-            shift.incrementAndGet();
-            return getValueFromList(values, index, shift);
-        }
-        if (index >= values.size()) {
-            index = index - values.size();
-            shift.incrementAndGet();
-            return getValueFromList(values, index, shift);
+    private long applyShifts(final int index, final int positions, final int shift, final boolean backward) {
+        if (positions <= 0) {
+            return NearestValue.pack(values[index], shift);
         }
-        return values.get(index);
+        final int length = values.length;
+        // distance travelled from the highest value when moving backward, from the lowest one otherwise
+        final long travelled = (backward ? length - 1L - index : index) + positions;
+        final int reached = (int) (travelled % length);
+        return NearestValue.pack(values[backward ? length - 1 - reached : reached], shift + (int) (travelled / length));
     }
 }
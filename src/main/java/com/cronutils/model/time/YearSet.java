@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.time.generator.FieldValueGenerator;
+import com.cronutils.utils.Preconditions;
+
+/**
+ * Compiled set of years a cron allows. Years within the field constraints are kept as a bitset, so membership
+ * and next or previous lookups take constant time; years outside them, or all years if the constraints span
+ * too wide a range, are resolved by the year generator.
+ */
+final class YearSet {
+    /**
+     * Widest constraint range kept as a bitset.
+     */
+    static final int MAX_COMPILED_YEARS = 4096;
+
+    private final FieldValueGenerator generator;
+    private final int from;
+    private final int to;
+    private final long[] bits;
+
+    private YearSet(final FieldValueGenerator generator, final int from, final int to, final long[] bits) {
+        this.generator = generator;
+        this.from = from;
+        this.to = to;
+        this.bits = bits;
+    }
+
+    /**
+     * @param generator   - year generator. If null, a NullPointerException will be raised.
+     * @param constraints - constraints of the year field. If null, a NullPointerException will be raised.
+     * @return YearSet instance, never null.
+     */
+    static YearSet of(final FieldValueGenerator generator, final FieldConstraints constraints) {
+        Preconditions.checkNotNull(generator, "Generator must not be null");
+        Preconditions.checkNotNull(constraints, "Constraints must not be null");
+        final int from = constraints.getStartRange();
+        final int to = constraints.getEndRange();
+        if (to < from || (long) to - from >= MAX_COMPILED_YEARS) {
+            return new YearSet(generator, 0, -1, null);
+        }
+        final long[] bits = new long[(to - from) / Long.SIZE + 1];
+        for (int year = from; year <= to; year++) {
+            if (generator.isMatch(year)) {
+                final int index = year - from;
+                bits[index / Long.SIZE] |= 1L << index;
+            }
+        }
+        return new YearSet(generator, from, to, bits);
+    }
+
+    boolean contains(final int year) {
+        if (year < from || year > to) {
+            return generator.isMatch(year);
+        }
+        final int index = year - from;
+        return (bits[index / Long.SIZE] & 1L << index) != 0;
+    }
+
+    /**
+     * @param reference - year to search from
+     * @return first allowed year after reference, or FieldValueGenerator.NO_VALUE if there is none
+     */
+    int next(final int reference) {
+        if (reference < from - 1 || reference >= to) {
+            return generator.nextValue(reference);
+        }
+        int index = reference + 1 - from;
+        int word = index / Long.SIZE;
+        long remaining = bits[word] & -1L << index;
+        while (remaining == 0) {
+            if (++word == bits.length) {
+                return generator.nextValue(to);
+            }
+            remaining = bits[word];
+        }
+        return from + word * Long.SIZE + Long.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * @param reference - year to search from
+     * @return last allowed year before reference, or FieldValueGenerator.NO_VALUE if there is none
+     */
+    int previous(final int reference) {
+        if (reference <= from || reference > to + 1) {
+            return generator.previousValue(reference);
+        }
+        int index = reference - 1 - from;
+        int word = index / Long.SIZE;
+        long remaining = bits[word] & -1L >>> (Long.SIZE - 1 - index % Long.SIZE);
+        while (remaining == 0) {
+            if (--word < 0) {
+                return generator.previousValue(from);
+            }
+            remaining = bits[word];
+        }
+        return from + word * Long.SIZE + Long.SIZE - 1 - Long.numberOfLeadingZeros(remaining);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+/**
+ * Gregorian year types. The calendar of a year is fixed by whether it is a leap year and by the day of week
+ * of January 1st, so there are fourteen distinct layouts: any two years of the same type have the same days of week
+ * on the same dates.
+ */
+final class YearType {
+    static final int COUNT = 14;
+
+    private static final int[] REPRESENTATIVE_YEARS = new int[COUNT];
+
+    static {
+        // a 28 year span holds every type
+        for (int year = 2000; year < 2028; year++) {
+            REPRESENTATIVE_YEARS[of(year)] = year;
+        }
+    }
+
+    private YearType() {
+    }
+
+    /**
+     * @param year - year to classify
+     * @return type of given year: the day of week of January 1st, 0 for Monday to 6 for Sunday, plus 7 for leap years.
+     */
+    static int of(final int year) {
+        // 1970-01-01 was a Thursday
+        final int dayOfWeek = (int) Math.floorMod(LocalFields.toEpochDay(year, 1, 1) + 3, 7);
+        return (LocalFields.isLeapYear(year) ? 7 : 0) + dayOfWeek;
+    }
+
+    /**
+     * @param type - year type, from 0 to 13
+     * @return a year of given type
+     */
+    static int representativeYear(final int type) {
+        return REPRESENTATIVE_YEARS[type];
+    }
+}
@@ -27,22 +27,22 @@ class AlwaysFieldValueGenerator extends FieldValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         final int newvalue = reference + 1;
         if (newvalue <= cronField.getConstraints().getEndRange()) {
             return newvalue;
         } else {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         final int newvalue = reference - 1;
         if (newvalue >= cronField.getConstraints().getStartRange()) {
             return newvalue;
         } else {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
     }
 
@@ -55,6 +55,13 @@ class AlwaysFieldValueGenerator extends FieldValueGenerator {
         return values;
     }
 
+    @Override
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        for (int j = start + 1; j < end; j++) {
+            mask[j >>> 6] |= 1L << j;
+        }
+    }
+
     @Override
     public boolean isMatch(final int value) {
         return cronField.getField() == CronFieldName.DAY_OF_WEEK || cronField.getConstraints().isInRange(value);
@@ -24,51 +24,56 @@ import java.util.ArrayList;
 import java.util.List;
 
 class AndDayOfWeekValueGenerator extends FieldValueGenerator {
-    private final int year;
-    private final int month;
-    private final WeekDay mondayDoWValue;
+    /**
+     * Generators for each of the expressions, built once for the month.
+     */
+    private final FieldValueGenerator[] generators;
 
     public AndDayOfWeekValueGenerator(final CronField cronField, final int year, final int month, final WeekDay mondayDoWValue) {
         super(cronField);
         Preconditions.checkArgument(CronFieldName.DAY_OF_WEEK.equals(cronField.getField()), "CronField does not belong to day of week");
-        this.year = year;
-        this.month = month;
-        this.mondayDoWValue = mondayDoWValue;
+        final List<FieldExpression> expressions = ((And) cronField.getExpression()).getExpressions();
+        generators = new FieldValueGenerator[expressions.size()];
+        for (int j = 0; j < generators.length; j++) {
+            generators[j] = FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(
+                    new CronField(CronFieldName.DAY_OF_WEEK, expressions.get(j), cronField.getConstraints()), year, month, mondayDoWValue
+            );
+        }
     }
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
         final List<Integer> values = new ArrayList<>();
-        final And and = (And) cronField.getExpression();
-
-        for (final FieldExpression expression : and.getExpressions()) {
-            final CronField cronField = new CronField(CronFieldName.DAY_OF_WEEK, expression, this.cronField.getConstraints());
-            final List<Integer> candidatesList = FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(
-                    cronField, year, month, mondayDoWValue
-            ).generateCandidates(start, end);
-
+        for (final FieldValueGenerator generator : generators) {
             // add them to the master list
-            if (candidatesList != null) {
-                values.addAll(candidatesList);
-            }
+            values.addAll(generator.generateCandidates(start, end));
         }
-
         return values;
     }
 
+    @Override
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        for (final FieldValueGenerator generator : generators) {
+            final long[] candidates = generator.generateCandidateMask(start, end);
+            for (int j = 0; j < mask.length; j++) {
+                mask[j] |= candidates[j];
+            }
+        }
+    }
+
     @Override
     protected boolean matchesFieldExpressionClass(final FieldExpression fieldExpression) {
         return fieldExpression instanceof And;
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         // This method does not logically work.
         return 0;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         // This method does not logically work.
         return 0;
     }
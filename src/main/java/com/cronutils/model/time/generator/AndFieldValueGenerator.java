@@ -13,84 +13,80 @@
 
 package com.cronutils.model.time.generator;
 
-import com.cronutils.Function;
 import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.constraint.FieldConstraints;
 import com.cronutils.model.field.expression.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 class AndFieldValueGenerator extends FieldValueGenerator {
-    private static final Logger log = LoggerFactory.getLogger(AndFieldValueGenerator.class);
+    /**
+     * Largest constraints range end compiled into a mask.
+     */
+    private static final int MAX_COMPILED_VALUE = 4095;
+
+    /**
+     * Generators and compiled values, built on first use so that creating this generator reads nothing but the expression.
+     */
+    private volatile Compiled compiled;
 
     public AndFieldValueGenerator(final CronField cronField) {
         super(cronField);
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
-        final List<Integer> candidates = computeCandidates(
-                fieldValueGenerator -> {
-                    try {
-                        return fieldValueGenerator.generateNextValue(reference);
-                    } catch (final NoSuchValueException e) {
-                        return NO_VALUE;
-                    }
-                }
-
-        );
-        if (candidates.isEmpty()) {
-            throw new NoSuchValueException();
-        } else {
-            return candidates.get(0);
+    public int nextValue(final int reference) {
+        final Compiled current = compiled();
+        if (current.contains(reference)) {
+            return reference == current.endRange ? NO_VALUE : current.nextSetBit(reference + 1);
         }
+        return nextValueOfAny(current.generators, reference);
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
-        final List<Integer> candidates = computeCandidates(
-                candidateGenerator -> {
-                    try {
-                        return candidateGenerator.generatePreviousValue(reference);
-                    } catch (final NoSuchValueException e) {
-                        return NO_VALUE;
-                    }
-                }
-
-        );
-        if (candidates.isEmpty()) {
-            throw new NoSuchValueException();
-        } else {
-            return candidates.get(candidates.size() - 1);
+    public int previousValue(final int reference) {
+        final Compiled current = compiled();
+        if (current.contains(reference)) {
+            return reference == current.startRange ? NO_VALUE : current.previousSetBit(reference - 1);
         }
+        int previous = NO_VALUE;
+        for (final FieldValueGenerator generator : current.generators) {
+            final int candidate = generator.previousValue(reference);
+            if (candidate != NO_VALUE && candidate > previous) {
+                previous = candidate;
+            }
+        }
+        return previous;
     }
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
         final List<Integer> values = new ArrayList<>();
-        try {
-            int reference = generateNextValue(start);
-            while (reference < end) {
-                values.add(reference);
-                reference = generateNextValue(reference);
-            }
-        } catch (final NoSuchValueException e) {
-            log.debug("Catched expected exception while generating candidates", e);
+        int reference = nextValue(start);
+        while (reference != NO_VALUE && reference < end) {
+            values.add(reference);
+            reference = nextValue(reference);
         }
         return values;
     }
 
+    @Override
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        int reference = nextValue(start);
+        while (reference != NO_VALUE && reference < end) {
+            addCandidate(mask, start, end, reference);
+            reference = nextValue(reference);
+        }
+    }
+
     @Override
     public boolean isMatch(final int value) {
-        final And and = (And) cronField.getExpression();
-        boolean match = false;
-        for (final FieldExpression expression : and.getExpressions()) {
-            match = match || createCandidateGeneratorInstance(new CronField(cronField.getField(), expression, cronField.getConstraints())).isMatch(value);
+        final Compiled current = compiled();
+        if (current.contains(value)) {
+            return (current.mask[value >>> 6] & (1L << value)) != 0;
         }
-        return match;
+        return isMatchOfAny(current.generators, value);
     }
 
     @Override
@@ -98,27 +94,36 @@ class AndFieldValueGenerator extends FieldValueGenerator {
         return fieldExpression instanceof And;
     }
 
-    private List<Integer> computeCandidates(final Function<FieldValueGenerator, Integer> function) {
-        final And and = (And) cronField.getExpression();
-        final List<Integer> candidates = new ArrayList<>();
-        for (final FieldExpression expression : and.getExpressions()) {
-            candidates.add(
-                    function.apply(
-                                createCandidateGeneratorInstance(new CronField(cronField.getField(), expression, cronField.getConstraints()))
-                    )
-            );
-        }
-        final List<Integer> filteredCandidates = new ArrayList<>();
-        for (final Integer candidate : candidates) {
-            if (candidate >= 0) {
-                filteredCandidates.add(candidate);
+    private Compiled compiled() {
+        Compiled result = compiled;
+        if (result == null) {
+            result = new Compiled(cronField);
+            compiled = result;
+        }
+        return result;
+    }
+
+    private static int nextValueOfAny(final FieldValueGenerator[] generators, final int reference) {
+        int next = NO_VALUE;
+        for (final FieldValueGenerator generator : generators) {
+            final int candidate = generator.nextValue(reference);
+            if (candidate != NO_VALUE && (next == NO_VALUE || candidate < next)) {
+                next = candidate;
             }
         }
-        Collections.sort(filteredCandidates);
-        return filteredCandidates;
+        return next;
     }
 
-    private FieldValueGenerator createCandidateGeneratorInstance(final CronField cronField) {
+    private static boolean isMatchOfAny(final FieldValueGenerator[] generators, final int value) {
+        for (final FieldValueGenerator generator : generators) {
+            if (generator.isMatch(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static FieldValueGenerator createCandidateGeneratorInstance(final CronField cronField) {
         final FieldExpression expression = cronField.getExpression();
         if (expression instanceof Always) {
             return new AlwaysFieldValueGenerator(cronField);
@@ -134,4 +139,91 @@ class AndFieldValueGenerator extends FieldValueGenerator {
         }
         throw new IllegalArgumentException(String.format("FieldExpression %s not supported!", expression.getClass()));
     }
+
+    /**
+     * Generators for each of the expressions, and the values of any of them within the constraints range.
+     * Immutable once built, so a racy first use only builds it twice.
+     */
+    private static final class Compiled {
+        private final FieldValueGenerator[] generators;
+        private final int startRange;
+        private final int endRange;
+        /**
+         * Values within the constraints range, as described in {@link FieldValueGenerator#generateCandidateMask(int, int)};
+         * null if the field has no constraints or their range is too wide to compile.
+         */
+        private final long[] mask;
+
+        private Compiled(final CronField cronField) {
+            final FieldConstraints constraints = cronField.getConstraints();
+            final List<FieldExpression> expressions = ((And) cronField.getExpression()).getExpressions();
+            generators = new FieldValueGenerator[expressions.size()];
+            for (int j = 0; j < generators.length; j++) {
+                generators[j] = createCandidateGeneratorInstance(new CronField(cronField.getField(), expressions.get(j), constraints));
+            }
+            if (constraints != null && constraints.getStartRange() >= 0 && constraints.getStartRange() <= constraints.getEndRange()
+                    && constraints.getEndRange() <= MAX_COMPILED_VALUE) {
+                startRange = constraints.getStartRange();
+                endRange = constraints.getEndRange();
+                mask = compile(generators, startRange, endRange);
+            } else {
+                startRange = 0;
+                endRange = -1;
+                mask = null;
+            }
+        }
+
+        /**
+         * Sets the values the sub-generators yield from start, as the uncompiled generator would.
+         */
+        private static long[] compile(final FieldValueGenerator[] generators, final int start, final int end) {
+            final long[] mask = new long[(end >>> 6) + 1];
+            int reference = nextValueOfAny(generators, start);
+            while (reference != NO_VALUE && reference < end) {
+                addCandidate(mask, start, end, reference);
+                reference = nextValueOfAny(generators, reference);
+            }
+            if (isMatchOfAny(generators, start)) {
+                mask[start >>> 6] |= 1L << start;
+            }
+            if (isMatchOfAny(generators, end)) {
+                mask[end >>> 6] |= 1L << end;
+            }
+            return mask;
+        }
+
+        private boolean contains(final int value) {
+            return mask != null && value >= startRange && value <= endRange;
+        }
+
+        /**
+         * @return lowest value in the mask not lower than given one, NO_VALUE if there is none
+         */
+        private int nextSetBit(final int from) {
+            int word = from >>> 6;
+            long bits = mask[word] & (-1L << from);
+            while (bits == 0) {
+                if (++word == mask.length) {
+                    return NO_VALUE;
+                }
+                bits = mask[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        /**
+         * @return highest value in the mask not greater than given one, NO_VALUE if there is none
+         */
+        private int previousSetBit(final int from) {
+            int word = from >>> 6;
+            long bits = mask[word] & (-1L >>> (63 - (from & 63)));
+            while (bits == 0) {
+                if (--word < 0) {
+                    return NO_VALUE;
+                }
+                bits = mask[word];
+            }
+            return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+        }
+    }
 }
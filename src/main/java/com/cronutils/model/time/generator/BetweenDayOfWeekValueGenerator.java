@@ -34,8 +34,8 @@ import java.util.stream.IntStream;
  *
  * <p>The methods:
  * <ul>
- * <li>generateNextValue()
- * <li>generatePreviousValue()
+ * <li>nextValue()
+ * <li>previousValue()
  * </ul>
  * are not implemented and WILL FAIL logically when called.
  *
@@ -96,13 +96,13 @@ class BetweenDayOfWeekValueGenerator extends FieldValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         // This method does not logically work.
         return 0;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         // This method does not logically work.
         return 0;
     }
@@ -29,7 +29,7 @@ class BetweenFieldValueGenerator extends FieldValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         final Between between = (Between) cronField.getExpression();
         //TODO validate from/to logic
         int candidate = reference;
@@ -38,13 +38,13 @@ class BetweenFieldValueGenerator extends FieldValueGenerator {
         } while (candidate < map(between.getFrom()));
 
         if (candidate > map(between.getTo())) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return candidate;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         final Between between = (Between) cronField.getExpression();
         //TODO deal with from/to logic, to ensure correct values are assumed
         int candidate = reference;
@@ -53,7 +53,7 @@ class BetweenFieldValueGenerator extends FieldValueGenerator {
         } while (candidate > map(between.getTo()));
 
         if (candidate < map(between.getFrom())) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return candidate;
     }
@@ -74,25 +74,38 @@ class BetweenFieldValueGenerator extends FieldValueGenerator {
             if (map(between.getFrom()) > start) {
                 rangestart = expressionStart;
             }
-            try {
-                if (rangestart != start) {
-                    values.add(rangestart);
-                }
-                int reference = generateNextValue(rangestart);
-                while (reference < rangeend) {
-                    values.add(reference);
-                    reference = generateNextValue(reference);
-                }
-                if (rangeend != end) {
-                    values.add(reference);
-                }
-            } catch (final NoSuchValueException e) {
-                // TODO: Explain why this exception is ignored
+            if (rangestart != start) {
+                values.add(rangestart);
+            }
+            int reference = nextValue(rangestart);
+            while (reference != NO_VALUE && reference < rangeend) {
+                values.add(reference);
+                reference = nextValue(reference);
+            }
+            if (reference != NO_VALUE && rangeend != end) {
+                values.add(reference);
             }
         }
         return values;
     }
 
+    @Override
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        final Between between = (Between) cronField.getExpression();
+        final int expressionStart = map(between.getFrom());
+        final int expressionEnd = map(between.getTo());
+        if (start <= expressionEnd && expressionStart <= end) { //ranges overlap
+            if (expressionStart > expressionEnd) {
+                super.addCandidatesNotIncludingIntervalExtremes(start, end, mask);
+                return;
+            }
+            // every value of the overlap but the interval extremes, which the caller checks
+            for (int value = Math.max(start + 1, expressionStart); value <= Math.min(end - 1, expressionEnd); value++) {
+                mask[value >>> 6] |= 1L << value;
+            }
+        }
+    }
+
     @Override
     public boolean isMatch(final int value) {
         final Between between = (Between) cronField.getExpression();
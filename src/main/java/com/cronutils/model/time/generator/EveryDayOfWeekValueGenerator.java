@@ -64,25 +64,25 @@ class EveryDayOfWeekValueGenerator extends EveryFieldValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         int day = reference;
         do {
             day++;
         } while (!isMatch(day) && day <= lastDayOfMonth);
         if (day > lastDayOfMonth) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return day;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         int day = reference;
         do {
             day--;
         } while (!isMatch(day) && day > 0);
         if (day <= 0) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return day;
     }
@@ -91,20 +91,24 @@ class EveryDayOfWeekValueGenerator extends EveryFieldValueGenerator {
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(int start, int end) {
         // start is the day of month to start from
         List<Integer> candidates = new ArrayList<>();
-        int reference = start;
-        try {
-            while (reference < end) {
-                reference = generateNextValue(reference);
-                if (reference < end) {
-                    candidates.add(reference);
-                }
-            }
-        } catch (NoSuchValueException ignored) {
-            // next generated value would be beyond the end of the month, so just ignore it and finish
+        // stops when the next value would be beyond the end of the month
+        int reference = nextValue(start);
+        while (reference != NO_VALUE && reference < end) {
+            candidates.add(reference);
+            reference = nextValue(reference);
         }
         return candidates;
     }
 
+    @Override
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        int reference = nextValue(start);
+        while (reference != NO_VALUE && reference < end) {
+            addCandidate(mask, start, end, reference);
+            reference = nextValue(reference);
+        }
+    }
+
     @Override
     public boolean isMatch(final int value) {
         // value is the day of the month
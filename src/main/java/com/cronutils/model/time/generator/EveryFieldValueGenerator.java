@@ -51,10 +51,10 @@ class EveryFieldValueGenerator extends FieldValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         //intuition: for valid values, we have: offset+period*i
         if (reference >= to) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         final Every every = (Every) cronField.getExpression();
 
@@ -63,7 +63,7 @@ class EveryFieldValueGenerator extends FieldValueGenerator {
             return from;
         }
         if (next > to) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
 
         return next;
@@ -84,44 +84,50 @@ class EveryFieldValueGenerator extends FieldValueGenerator {
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         final Every every = (Every) cronField.getExpression();
         if (reference < from) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         if (reference > to) {
             return to;
         }
         final int period = every.getPeriod().getValue();
         final int remainder = (reference - from) % period;
-        if (remainder == 0) {
-            return reference - period;
-        } else {
-            return reference - remainder;
-        }
+        final int previous = remainder == 0 ? reference - period : reference - remainder;
+        return previous < from ? NO_VALUE : previous;
     }
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
         final List<Integer> values = new ArrayList<>();
-        try {
-            final int offset = offset();
-            if (start < offset && offset < end) {
-                values.add(offset);
-            }
-            int reference = generateNextValue(start);
-            while (reference < end) {
-                if (reference != offset) {
-                    values.add(reference);
-                }
-                reference = generateNextValue(reference);
+        final int offset = offset();
+        if (start < offset && offset < end) {
+            values.add(offset);
+        }
+        int reference = nextValue(start);
+        while (reference != NO_VALUE && reference < end) {
+            if (reference != offset) {
+                values.add(reference);
             }
-        } catch (final NoSuchValueException ignored) {
-            // We just skip, since we generate values until we get the exception
+            reference = nextValue(reference);
         }
         return values;
     }
 
+    @Override
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        final int offset = offset();
+        if (start < offset && offset < end) {
+            mask[offset >>> 6] |= 1L << offset;
+        }
+        int reference = nextValue(start);
+        while (reference != NO_VALUE && reference < end) {
+            addCandidate(mask, start, end, reference);
+            reference = nextValue(reference);
+        }
+    }
+
     @Override
     public boolean isMatch(final int value) {
         final Every every = (Every) cronField.getExpression();
@@ -27,7 +27,11 @@ import java.util.List;
  */
 public abstract class FieldValueGenerator {
 
-    protected static final int NO_VALUE = Integer.MIN_VALUE;
+    /**
+     * Returned by {@link #nextValue(int)} and {@link #previousValue(int)} when there is no such value.
+     * Public so that callers outside this package can test for it; it used to be protected.
+     */
+    public static final int NO_VALUE = Integer.MIN_VALUE;
     protected CronField cronField;
 
     public FieldValueGenerator(final CronField cronField) {
@@ -37,21 +41,64 @@ public abstract class FieldValueGenerator {
 
     /**
      * Generates next valid value from reference.
+     * Subclasses override this method or {@link #nextValue(int)}; each is implemented in terms of the other.
      *
      * @param reference - reference value
      * @return generated value - Integer
      * @throws NoSuchValueException - if there is no next value
      */
-    public abstract int generateNextValue(int reference) throws NoSuchValueException;
+    public int generateNextValue(final int reference) throws NoSuchValueException {
+        return valueOrThrow(nextValue(reference));
+    }
 
     /**
      * Generates previous valid value from reference.
+     * Subclasses override this method or {@link #previousValue(int)}; each is implemented in terms of the other.
      *
      * @param reference - reference value
      * @return generated value - Integer
      * @throws NoSuchValueException - if there is no previous value
      */
-    public abstract int generatePreviousValue(int reference) throws NoSuchValueException;
+    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+        return valueOrThrow(previousValue(reference));
+    }
+
+    /**
+     * Generates next valid value from reference, without throwing on search paths where running out of values is expected.
+     * Generators in this package override it, so that no exception is created.
+     *
+     * @param reference - reference value
+     * @return generated value, or {@link #NO_VALUE} if there is no next value
+     */
+    public int nextValue(final int reference) {
+        try {
+            return generateNextValue(reference);
+        } catch (final NoSuchValueException e) {
+            return NO_VALUE;
+        }
+    }
+
+    /**
+     * Generates previous valid value from reference, without throwing on search paths where running out of values is expected.
+     * Generators in this package override it, so that no exception is created.
+     *
+     * @param reference - reference value
+     * @return generated value, or {@link #NO_VALUE} if there is no previous value
+     */
+    public int previousValue(final int reference) {
+        try {
+            return generatePreviousValue(reference);
+        } catch (final NoSuchValueException e) {
+            return NO_VALUE;
+        }
+    }
+
+    private static int valueOrThrow(final int value) throws NoSuchValueException {
+        if (value == NO_VALUE) {
+            throw new NoSuchValueException();
+        }
+        return value;
+    }
 
     protected abstract List<Integer> generateCandidatesNotIncludingIntervalExtremes(int start, int end);
 
@@ -70,5 +117,46 @@ public abstract class FieldValueGenerator {
         return candidates;
     }
 
+    /**
+     * Generates candidates within given interval as a bit set, without boxing them: bit n % 64 of word n / 64 is set
+     * if value n is a candidate. Values outside the interval are left out.
+     *
+     * @param start - interval start, not negative
+     * @param end   - interval end, not lower than start
+     * @return candidates mask, with (end / 64) + 1 words; never null
+     */
+    public final long[] generateCandidateMask(final int start, final int end) {
+        Preconditions.checkArgument(start >= 0 && start <= end, "Interval must not be empty nor negative");
+        final long[] mask = new long[(end >>> 6) + 1];
+        addCandidatesNotIncludingIntervalExtremes(start, end, mask);
+        if (isMatch(start)) {
+            mask[start >>> 6] |= 1L << start;
+        }
+        if (isMatch(end)) {
+            mask[end >>> 6] |= 1L << end;
+        }
+        return mask;
+    }
+
+    /**
+     * Sets candidates strictly between start and end in given mask.
+     * Generators overriding it avoid building the list of {@link #generateCandidatesNotIncludingIntervalExtremes(int, int)}.
+     *
+     * @param start - interval start
+     * @param end   - interval end
+     * @param mask  - mask to fill, as described in {@link #generateCandidateMask(int, int)}
+     */
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        for (final int value : generateCandidatesNotIncludingIntervalExtremes(start, end)) {
+            addCandidate(mask, start, end, value);
+        }
+    }
+
+    protected static void addCandidate(final long[] mask, final int start, final int end, final int value) {
+        if (value >= start && value <= end) {
+            mask[value >>> 6] |= 1L << value;
+        }
+    }
+
     protected abstract boolean matchesFieldExpressionClass(FieldExpression fieldExpression);
 }
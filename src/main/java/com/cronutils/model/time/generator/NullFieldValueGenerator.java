@@ -25,13 +25,13 @@ class NullFieldValueGenerator extends FieldValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
-        throw new NoSuchValueException();
+    public int nextValue(final int reference) {
+        return NO_VALUE;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
-        throw new NoSuchValueException();
+    public int previousValue(final int reference) {
+        return NO_VALUE;
     }
 
     @Override
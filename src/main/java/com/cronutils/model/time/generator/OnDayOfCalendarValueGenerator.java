@@ -31,13 +31,11 @@ abstract class OnDayOfCalendarValueGenerator extends FieldValueGenerator {
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
         final List<Integer> values = new ArrayList<>();
-        try {
-            int reference = generateNextValue(start);
-            while (reference < end) {
-                values.add(reference);
-                reference = generateNextValue(reference);
-            }
-        } catch (final NoSuchValueException ignored) { /*NOP*/ }
+        int reference = nextValue(start);
+        while (reference != NO_VALUE && reference < end) {
+            values.add(reference);
+            reference = nextValue(reference);
+        }
         return values;
     }
 }
@@ -30,22 +30,22 @@ class OnDayOfMonthValueGenerator extends OnDayOfCalendarValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         final On on = ((On) cronField.getExpression());
         final int value = generateValue(on, year, month);
 
-        if (value <= reference) {
-            throw new NoSuchValueException();
+        if (value == NO_VALUE || value <= reference) {
+            return NO_VALUE;
         }
         return value;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         final On on = ((On) cronField.getExpression());
         final int value = generateValue(on, year, month);
         if (value >= reference) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return value;
     }
@@ -53,12 +53,8 @@ class OnDayOfMonthValueGenerator extends OnDayOfCalendarValueGenerator {
     @Override
     public boolean isMatch(final int value) {
         final On on = ((On) cronField.getExpression());
-        try {
-            return value == generateValue(on, year, month);
-        } catch (final NoSuchValueException ignored) {
-            //we just skip, since we generate values until we get the exception
-        }
-        return false;
+        final int generated = generateValue(on, year, month);
+        return generated != NO_VALUE && value == generated;
     }
 
     @Override
@@ -66,7 +62,10 @@ class OnDayOfMonthValueGenerator extends OnDayOfCalendarValueGenerator {
         return fieldExpression instanceof On;
     }
 
-    private int generateValue(final On on, final int year, final int month) throws NoSuchValueException {
+    /**
+     * @return day of month, or NO_VALUE if the special character is not supported
+     */
+    private int generateValue(final On on, final int year, final int month) {
         final int dayOfMonth = on.getTime().getValue();
         switch (on.getSpecialChar().getValue()) {
             case L:
@@ -93,7 +92,7 @@ class OnDayOfMonthValueGenerator extends OnDayOfCalendarValueGenerator {
                 }
                 return lastDayOfMonth.getDayOfMonth();
             default:
-                throw new NoSuchValueException();
+                return NO_VALUE;
         }
     }
 }
@@ -37,21 +37,21 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         final On on = ((On) cronField.getExpression());
         final int value = generateValue(on, year, month, reference);
-        if (value <= reference) {
-            throw new NoSuchValueException();
+        if (value == NO_VALUE || value <= reference) {
+            return NO_VALUE;
         }
         return value;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         final On on = ((On) cronField.getExpression());
         final int value = generateValue(on, year, month, reference);
         if (value >= reference) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return value;
     }
@@ -59,12 +59,8 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
     @Override
     public boolean isMatch(final int value) {
         final On on = ((On) cronField.getExpression());
-        try {
-            return value == generateValue(on, year, month, value - 1);
-        } catch (final NoSuchValueException ignored) {
-            //we just skip, since we generate values until we get the exception
-        }
-        return false;
+        final int generated = generateValue(on, year, month, value - 1);
+        return generated != NO_VALUE && value == generated;
     }
 
     @Override
@@ -72,7 +68,10 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
         return fieldExpression instanceof On;
     }
 
-    private int generateValue(final On on, final int year, final int month, final int reference) throws NoSuchValueException {
+    /**
+     * @return day of month, or NO_VALUE if the special character is not supported
+     */
+    private int generateValue(final On on, final int year, final int month, final int reference) {
         switch (on.getSpecialChar().getValue()) {
             case HASH:
                 return generateHashValues(on, year, month);
@@ -83,7 +82,7 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
             case NONE:
                 return generateNoneValues(on, year, month, reference);
             default:
-                throw new NoSuchValueException();
+                return NO_VALUE;
         }
     }
 
@@ -102,7 +101,7 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
         return (requiredNth - 1) * 7 + baseDay;
     }
 
-    private int generateLValues(final On on, final int year, final int month) throws NoSuchValueException {
+    private int generateLValues(final On on, final int year, final int month) {
         final int lastDoM = LocalDate.of(year, month, 1).lengthOfMonth();
         final LocalDate lastDoMDateTime = LocalDate.of(year, month, lastDoM);
         final int dowForLastDoM = lastDoMDateTime.getDayOfWeek().getValue();//1-7
@@ -118,7 +117,7 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
         if (dowDiff > 0) {
             return lastDoMDateTime.minusDays(dowDiff).getDayOfMonth();
         }
-        throw new NoSuchValueException();
+        return NO_VALUE;
     }
 
     /**
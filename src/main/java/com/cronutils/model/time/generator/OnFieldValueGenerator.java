@@ -26,19 +26,19 @@ class OnFieldValueGenerator extends FieldValueGenerator {
     }
 
     @Override
-    public int generateNextValue(final int reference) throws NoSuchValueException {
+    public int nextValue(final int reference) {
         final int time = ((On) cronField.getExpression()).getTime().getValue();
         if (time <= reference) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return time;
     }
 
     @Override
-    public int generatePreviousValue(final int reference) throws NoSuchValueException {
+    public int previousValue(final int reference) {
         final int time = ((On) cronField.getExpression()).getTime().getValue();
         if (time >= reference) {
-            throw new NoSuchValueException();
+            return NO_VALUE;
         }
         return time;
     }
@@ -53,6 +53,14 @@ class OnFieldValueGenerator extends FieldValueGenerator {
         return values;
     }
 
+    @Override
+    protected void addCandidatesNotIncludingIntervalExtremes(final int start, final int end, final long[] mask) {
+        final int time = ((On) cronField.getExpression()).getTime().getValue();
+        if (time > start && time < end) {
+            mask[time >>> 6] |= 1L << time;
+        }
+    }
+
     @Override
     public boolean isMatch(final int value) {
         return ((On) cronField.getExpression()).getTime().getValue() == value;
@@ -14,6 +14,7 @@
 
 package com.cronutils.parser;
 
+import com.cronutils.CronMetrics;
 import com.cronutils.builder.CronBuilder;
 import com.cronutils.model.CompositeCron;
 import com.cronutils.model.Cron;
@@ -36,12 +37,49 @@ public class CronParser {
 
     private final Map<Integer, List<CronParserField>> expressions = new HashMap<>();
     private final CronDefinition cronDefinition;
+    private final CronMetrics metrics;
+    /**
+     * Parsed crons by normalized expression; null if caching is disabled.
+     */
+    private final ParsedCronCache cache;
 
     /**
      * @param cronDefinition - cronDefinition of cron expressions to be parsed if null, a NullPointerException will be raised.
      */
     public CronParser(final CronDefinition cronDefinition) {
+        this(cronDefinition, CronMetrics.NO_OP);
+    }
+
+    /**
+     * @param cronDefinition - cronDefinition of cron expressions to be parsed if null, a NullPointerException will be raised.
+     * @param metrics        - listener for the time spent parsing; {@link CronMetrics#NO_OP} to disable reporting.
+     *                       If null, a NullPointerException will be raised.
+     */
+    public CronParser(final CronDefinition cronDefinition, final CronMetrics metrics) {
+        this(cronDefinition, metrics, 0);
+    }
+
+    /**
+     * @param cronDefinition - cronDefinition of cron expressions to be parsed if null, a NullPointerException will be raised.
+     * @param cacheSize      - number of parsed crons kept for reuse, least recently used first out; 0 disables caching.
+     *                       Must not be negative.
+     */
+    public CronParser(final CronDefinition cronDefinition, final int cacheSize) {
+        this(cronDefinition, CronMetrics.NO_OP, cacheSize);
+    }
+
+    /**
+     * @param cronDefinition - cronDefinition of cron expressions to be parsed if null, a NullPointerException will be raised.
+     * @param metrics        - listener for the time spent parsing and cache usage; {@link CronMetrics#NO_OP} to disable reporting.
+     *                       If null, a NullPointerException will be raised.
+     * @param cacheSize      - number of parsed crons kept for reuse, least recently used first out; 0 disables caching.
+     *                       Must not be negative.
+     */
+    public CronParser(final CronDefinition cronDefinition, final CronMetrics metrics, final int cacheSize) {
         this.cronDefinition = Preconditions.checkNotNull(cronDefinition, "CronDefinition must not be null");
+        this.metrics = Preconditions.checkNotNull(metrics, "Metrics must not be null");
+        Preconditions.checkArgument(cacheSize >= 0, "Cache size must not be negative");
+        this.cache = cacheSize == 0 ? null : new ParsedCronCache(cacheSize);
         buildPossibleExpressions(cronDefinition);
     }
 
@@ -92,6 +130,81 @@ public class CronParser {
      * @throws java.lang.IllegalArgumentException if expression does not match cron definition
      */
     public Cron parse(final String expression) {
+        if (metrics == CronMetrics.NO_OP) {
+            return parseCached(expression);
+        }
+        final long start = System.nanoTime();
+        Cron cron = null;
+        try {
+            cron = parseCached(expression);
+            return cron;
+        } finally {
+            metrics.timed(cron, CronMetrics.Operation.PARSE, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return number of parses answered from the cache; 0 if caching is disabled.
+     */
+    public long getCacheHits() {
+        return cache == null ? 0 : cache.getHits();
+    }
+
+    /**
+     * @return number of parses not found in the cache, including failed ones; 0 if caching is disabled.
+     */
+    public long getCacheMisses() {
+        return cache == null ? 0 : cache.getMisses();
+    }
+
+    private Cron parseCached(final String expression) {
+        if (cache == null) {
+            return parseExpression(expression);
+        }
+        Preconditions.checkNotNull(expression, "Expression must not be null");
+        final String key = cacheKey(expression);
+        Cron cron = cache.get(key);
+        if (cron != null) {
+            if (metrics != CronMetrics.NO_OP) {
+                metrics.cacheHit(cron, CronMetrics.Cache.PARSED_CRONS);
+            }
+            return cron;
+        }
+        if (metrics != CronMetrics.NO_OP) {
+            metrics.cacheMiss(null, CronMetrics.Cache.PARSED_CRONS);
+        }
+        cron = parseExpression(expression);
+        cache.put(key, cron);
+        return cron;
+    }
+
+    /**
+     * Expressions differing only in whitespace or case parse to the same cron, so they share a key.
+     * Nicknames and composite expressions are parsed from the expression as given, so they are keyed as given.
+     */
+    private static String cacheKey(final String expression) {
+        if (expression.startsWith("@") || expression.indexOf('|') >= 0) {
+            return expression;
+        }
+        final StringBuilder key = new StringBuilder(expression.length());
+        boolean whitespace = false;
+        for (int j = 0; j < expression.length(); j++) {
+            final char c = expression.charAt(j);
+            // same characters as \s, replaced on parsing
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                whitespace = true;
+            } else {
+                if (whitespace && key.length() > 0) {
+                    key.append(' ');
+                }
+                whitespace = false;
+                key.append(c);
+            }
+        }
+        return key.toString().toUpperCase();
+    }
+
+    private Cron parseExpression(final String expression) {
         Preconditions.checkNotNull(expression, "Expression must not be null");
         final String replaced = expression.replaceAll("\\s+", " ").trim();
         if (StringUtils.isEmpty(replaced)) {
@@ -124,7 +237,7 @@ public class CronParser {
         }
 
         if(expression.contains("||")) {
-            List<Cron> crons = Arrays.stream(expression.split("\\|\\|")).map(this::parse).collect(Collectors.toList());
+            List<Cron> crons = Arrays.stream(expression.split("\\|\\|")).map(this::parseExpression).collect(Collectors.toList());
             return new CompositeCron(crons);
         }
         if(expression.contains("|")){
@@ -141,7 +254,7 @@ public class CronParser {
                 }
                 crons.add(builder.toString().trim());
             }
-            return new CompositeCron(crons.stream().map(this::parse).collect(Collectors.toList()));
+            return new CompositeCron(crons.stream().map(this::parseExpression).collect(Collectors.toList()));
         }else{
             final String[] expressionParts = replaced.toUpperCase().split(" ");
             final int expressionLength = expressionParts.length;
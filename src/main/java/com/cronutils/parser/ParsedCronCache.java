@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of parsed crons, evicting the least recently used entry once full.
+ * Crons are immutable once validated, so cached instances are shared between callers.
+ * The class is thread safe.
+ */
+class ParsedCronCache {
+    private final Map<String, Cron> crons;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize - maximum number of crons kept. Must be positive.
+     */
+    ParsedCronCache(final int maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0, "Cache size must be positive");
+        this.crons = new LinkedHashMap<String, Cron>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Cron> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @param key - normalized expression
+     * @return cached cron, or null if there is none; counted as a hit or a miss.
+     */
+    Cron get(final String key) {
+        final Cron cron;
+        synchronized (crons) {
+            cron = crons.get(key);
+        }
+        if (cron == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return cron;
+    }
+
+    void put(final String key, final Cron cron) {
+        synchronized (crons) {
+            crons.put(key, cron);
+        }
+    }
+
+    int size() {
+        synchronized (crons) {
+            return crons.size();
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils;
+
+import com.cronutils.descriptor.CronDescriptor;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Bytes allocated per call on hot paths, averaged after warm up. Budgets leave about twice the current
+ * allocation as headroom, so they catch regressions rather than noise; lower them as allocations are removed.
+ * Skipped on JVMs that cannot measure per thread allocation.
+ */
+public class AllocationBudgetTest {
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 2_000;
+    /**
+     * Parsing and describing cost far more per call, and their budgets are wide enough for a shorter run.
+     */
+    private static final int SLOW_WARMUP_CALLS = 2_000;
+    private static final int SLOW_MEASURED_CALLS = 200;
+
+    private static final long PARSE_BUDGET = 64 * 1024;
+    private static final long NEXT_EXECUTION_BUDGET = 3 * 1024;
+    private static final long LAST_EXECUTION_BUDGET = 3 * 1024;
+    private static final long IS_MATCH_BUDGET = 6 * 1024;
+    private static final long DESCRIBE_BUDGET = 32 * 1024;
+
+    private static final String[] EXPRESSIONS = {"0 0/15 * * * ?", "0 0 12 ? * MON-FRI", "0 0 12 L * ?", "0 0 12 ? * 6#3", "0 0 12 15W * ?"};
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+    /**
+     * Months away from any daylight saving time transition, so searches take the regular path.
+     */
+    private static final ZonedDateTime DATE = ZonedDateTime.of(2021, 6, 16, 10, 17, 31, 0, ZONE);
+    /**
+     * A day before clocks go forward, so searches take the path checking the offset.
+     */
+    private static final ZonedDateTime DST_DATE = ZonedDateTime.of(2021, 3, 27, 22, 17, 31, 0, ZONE);
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private CronParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Thread allocation is not measurable on this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(),
+                "Thread allocation is not measurable on this JVM");
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    }
+
+    @Test
+    public void testParse() {
+        for (final String expression : EXPRESSIONS) {
+            assertWithinBudget("parse " + expression, PARSE_BUDGET, SLOW_WARMUP_CALLS, SLOW_MEASURED_CALLS, () -> parser.parse(expression));
+        }
+    }
+
+    @Test
+    public void testNextExecution() {
+        for (final String expression : EXPRESSIONS) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            assertWithinBudget("nextExecution " + expression, NEXT_EXECUTION_BUDGET, () -> executionTime.nextExecution(DATE));
+        }
+    }
+
+    @Test
+    public void testNextExecutionAroundDaylightSavingTime() {
+        for (final String expression : EXPRESSIONS) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            assertWithinBudget("nextExecution " + expression + " around DST", NEXT_EXECUTION_BUDGET, () -> executionTime.nextExecution(DST_DATE));
+        }
+    }
+
+    @Test
+    public void testLastExecution() {
+        for (final String expression : EXPRESSIONS) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            assertWithinBudget("lastExecution " + expression, LAST_EXECUTION_BUDGET, () -> executionTime.lastExecution(DATE));
+        }
+    }
+
+    @Test
+    public void testIsMatch() {
+        for (final String expression : EXPRESSIONS) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            assertWithinBudget("isMatch " + expression, IS_MATCH_BUDGET, () -> executionTime.isMatch(DATE));
+        }
+    }
+
+    @Test
+    public void testDescribe() {
+        final CronDescriptor descriptor = CronDescriptor.instance(Locale.UK);
+        for (final String expression : EXPRESSIONS) {
+            final Cron cron = parser.parse(expression);
+            assertWithinBudget("describe " + expression, DESCRIBE_BUDGET, SLOW_WARMUP_CALLS, SLOW_MEASURED_CALLS, () -> descriptor.describe(cron));
+        }
+    }
+
+    private void assertWithinBudget(final String operation, final long budget, final Runnable call) {
+        assertWithinBudget(operation, budget, WARMUP_CALLS, MEASURED_CALLS, call);
+    }
+
+    private void assertWithinBudget(final String operation, final long budget, final int warmupCalls, final int measuredCalls, final Runnable call) {
+        for (int i = 0; i < warmupCalls; i++) {
+            call.run();
+        }
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < measuredCalls; i++) {
+            call.run();
+        }
+        final long bytesPerCall = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / measuredCalls;
+        assertTrue(bytesPerCall <= budget, String.format("%s allocates %d bytes per call, over its budget of %d", operation, bytesPerCall, budget));
+    }
+}
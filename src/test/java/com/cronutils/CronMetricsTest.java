@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CronMetricsTest {
+    private static final ZonedDateTime DATE = ZonedDateTime.of(2021, 3, 27, 22, 17, 31, 0, ZoneId.of("UTC"));
+
+    private RecordingMetrics metrics;
+    private CronParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = new RecordingMetrics();
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), metrics);
+    }
+
+    @Test
+    public void testParseIsTimed() {
+        final Cron cron = parser.parse("0 0 12 * * ?");
+        assertEquals(1, metrics.timed.size());
+        assertSame(cron, metrics.timedCrons.get(0));
+        assertEquals(CronMetrics.Operation.PARSE, metrics.timed.get(0));
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("0 0 12 * *"));
+        assertEquals(2, metrics.timed.size());
+        assertNull(metrics.timedCrons.get(1));
+    }
+
+    @Test
+    public void testSearchesAreReported() {
+        final Cron cron = parser.parse("0 0 12 ? * MON-FRI");
+        metrics.clear();
+        final ExecutionTime executionTime = ExecutionTime.forCron(cron, 100, metrics);
+
+        assertTrue(executionTime.nextExecution(DATE).isPresent());
+        assertEquals(CronMetrics.Operation.NEXT_EXECUTION, metrics.timed.get(0));
+        assertSame(cron, metrics.timedCrons.get(0));
+        assertFalse(metrics.iterations.isEmpty());
+        assertTrue(metrics.iterations.stream().allMatch(iterations -> iterations > 0));
+        assertTrue(metrics.cacheMisses > 0);
+
+        metrics.clear();
+        assertTrue(executionTime.lastExecution(DATE).isPresent());
+        assertTrue(executionTime.isMatch(DATE.withHour(12).withMinute(0).withSecond(0).plusDays(2)));
+        assertEquals(2, metrics.timed.size());
+        assertEquals(CronMetrics.Operation.LAST_EXECUTION, metrics.timed.get(0));
+        assertEquals(CronMetrics.Operation.IS_MATCH, metrics.timed.get(1));
+        assertTrue(metrics.cacheHits > 0);
+        assertEquals(0, metrics.noSuchValues);
+    }
+
+    @Test
+    public void testSearchesAreReportedOncePerCall() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 30 1 * * ?"), 100, metrics);
+        // close to a zone offset transition, the epoch second search falls back to the ZonedDateTime search
+        final ZonedDateTime date = ZonedDateTime.of(2021, 3, 27, 22, 17, 31, 0, ZoneId.of("Europe/London"));
+        metrics.clear();
+        executionTime.nextExecutionEpochSecond(date.toEpochSecond(), date.getZone());
+        assertEquals(1, metrics.iterations.size());
+        executionTime.lastExecutionEpochSecond(date.toEpochSecond(), date.getZone());
+        assertEquals(2, metrics.iterations.size());
+
+        metrics.clear();
+        executionTime.isMatch(date);
+        assertTrue(metrics.iterations.isEmpty());
+    }
+
+    @Test
+    public void testNoSuchValueIsReported() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2020"), 100, metrics);
+        metrics.clear();
+        assertFalse(executionTime.nextExecution(DATE).isPresent());
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.nextExecutionEpochSecond(DATE.toEpochSecond(), DATE.getZone()));
+        assertEquals(2, metrics.noSuchValues);
+        assertEquals(2, metrics.timed.size());
+    }
+
+    @Test
+    public void testCompositeAndMembersAreTimed() {
+        final Cron cron = parser.parse("0 0 12 * * ? || 0 30 9 * * ?");
+        assertEquals(1, metrics.timed.size());
+        metrics.clear();
+        ExecutionTime.forCron(cron, 100, metrics).nextExecution(DATE);
+        assertEquals(3, metrics.timed.size());
+        assertSame(cron, metrics.timedCrons.get(2));
+    }
+
+    private static class RecordingMetrics implements CronMetrics {
+        private final List<Operation> timed = new ArrayList<>();
+        private final List<Cron> timedCrons = new ArrayList<>();
+        private final List<Integer> iterations = new ArrayList<>();
+        private int noSuchValues;
+        private int cacheHits;
+        private int cacheMisses;
+
+        @Override
+        public void timed(final Cron cron, final Operation operation, final long nanos) {
+            assertTrue(nanos >= 0);
+            timed.add(operation);
+            timedCrons.add(cron);
+        }
+
+        @Override
+        public void searched(final Cron cron, final Operation operation, final int iterations) {
+            this.iterations.add(iterations);
+        }
+
+        @Override
+        public void noSuchValue(final Cron cron, final Operation operation) {
+            noSuchValues++;
+        }
+
+        @Override
+        public void cacheHit(final Cron cron, final Cache cache) {
+            cacheHits++;
+        }
+
+        @Override
+        public void cacheMiss(final Cron cron, final Cache cache) {
+            cacheMisses++;
+        }
+
+        private void clear() {
+            timed.clear();
+            timedCrons.clear();
+            iterations.clear();
+            noSuchValues = 0;
+            cacheHits = 0;
+            cacheMisses = 0;
+        }
+    }
+}
@@ -32,6 +32,55 @@ public class ExecutionDatesTest {
         assertEquals(240, executionCount);
     }
 
+    @Test
+    public void testExecutionCountForEverySecondOverThirtyDays() {
+        final CronParser quartzCronParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        final ZonedDateTime startDate = ZonedDateTime.of(2022, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        final ZonedDateTime endDate = startDate.plusDays(30);
+
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("* * * * * ?"));
+        assertEquals(30 * 24 * 60 * 60, executionTime.countExecutions(startDate, endDate));
+    }
+
+    @Test
+    public void testExecutionCountMatchesExecutionDatesAcrossDaylightSavingTime() {
+        final ZoneId zoneId = ZoneId.of("America/New_York");
+        final ExecutionTime executionTime = ExecutionTime.forCron(cron4jCronParser.parse("30 * * * *"));
+        final ZonedDateTime[] startDates = {
+                ZonedDateTime.of(2022, 3, 1, 0, 0, 0, 0, zoneId),
+                ZonedDateTime.of(2022, 10, 20, 12, 15, 0, 0, zoneId),
+                ZonedDateTime.of(2022, 11, 6, 1, 45, 0, 0, zoneId)
+        };
+        for (final ZonedDateTime startDate : startDates) {
+            final ZonedDateTime endDate = startDate.plusDays(30);
+            assertEquals(executionTime.getExecutionDates(startDate, endDate).size(), executionTime.countExecutions(startDate, endDate));
+        }
+    }
+
+    @Test
+    public void testExecutionCountSkipsRepeatedDailyExecutionInOverlap() {
+        final ZoneId zoneId = ZoneId.of("America/New_York");
+        final ExecutionTime executionTime = ExecutionTime.forCron(cron4jCronParser.parse("30 1 * * *"));
+        final ZonedDateTime startDate = ZonedDateTime.of(2022, 11, 5, 0, 0, 0, 0, zoneId);
+        final ZonedDateTime endDate = startDate.plusDays(3);
+        assertEquals(3, executionTime.countExecutions(startDate, endDate));
+        assertEquals(executionTime.getExecutionDates(startDate, endDate).size(), executionTime.countExecutions(startDate, endDate));
+    }
+
+    @Test
+    public void testExecutionCountFromSubSecondStartDate() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(cron4jCronParser.parse("0 * * * *"));
+        final ZonedDateTime startDate = ZonedDateTime.of(2022, 1, 1, 0, 0, 0, 500, ZoneId.of("UTC"));
+        assertEquals(24, executionTime.countExecutions(startDate, startDate.plusDays(1)));
+    }
+
+    @Test
+    public void testExecutionCountOverCenturies() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(cron4jCronParser.parse("0 0 1 1 *"));
+        final ZonedDateTime startDate = ZonedDateTime.of(1900, 6, 1, 0, 0, 0, 0, ZoneId.of("Europe/London"));
+        assertEquals(200, executionTime.countExecutions(startDate, startDate.plusYears(200)));
+    }
+
     @Test
     public void testExecutionDatesBetweenDates() {
         int year = 2022;
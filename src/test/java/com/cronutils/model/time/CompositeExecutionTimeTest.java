@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompositeExecutionTimeTest {
+    private static final String[] EXPRESSIONS = {"0 0 9 * * ?", "0 30 11 ? * MON-FRI", "0 0 12 L * ?", "0 0 0 1 1 ? 2016"};
+
+    private List<ExecutionTime> members;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        members = new ArrayList<>();
+        for (final String expression : EXPRESSIONS) {
+            members.add(ExecutionTime.forCron(parser.parse(expression)));
+        }
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSequentialAndParallelAgree() {
+        final ExecutionTime sequential = new CompositeExecutionTime(members);
+        final ExecutionTime parallel = new CompositeExecutionTime(members, executor);
+        ZonedDateTime date = ZonedDateTime.of(2015, 12, 30, 10, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(earliestOfMembers(date), sequential.nextExecution(date));
+            assertEquals(sequential.nextExecution(date), parallel.nextExecution(date));
+            assertEquals(sequential.lastExecution(date), parallel.lastExecution(date));
+            assertEquals(sequential.isMatch(date), parallel.isMatch(date));
+            date = sequential.nextExecution(date).orElseThrow(IllegalStateException::new);
+        }
+    }
+
+    @Test
+    public void testIsMatch() {
+        final ExecutionTime composite = new CompositeExecutionTime(members);
+        assertTrue(composite.isMatch(ZonedDateTime.of(2016, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+        assertTrue(composite.isMatch(ZonedDateTime.of(2021, 6, 30, 12, 0, 0, 0, ZoneOffset.UTC)));
+        assertFalse(composite.isMatch(ZonedDateTime.of(2021, 6, 29, 12, 0, 0, 0, ZoneOffset.UTC)));
+    }
+
+    private Optional<ZonedDateTime> earliestOfMembers(final ZonedDateTime date) {
+        return members.stream().map(member -> member.nextExecution(date)).filter(Optional::isPresent).map(Optional::get)
+                .min(ZonedDateTime::compareTo);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class CronCursorTest {
+    private static final String[] EXPRESSIONS = {
+            "* * * * * ?",
+            "0 * * * * ?",
+            "0 0/15 * * * ?",
+            "30 30 1-3 * * ?",
+            "0 0 12 L * ?",
+            "0 0 12 ? * 6#3",
+            "0 0 0 29 2 ? *",
+            "0 0 12 1,15 * ? 2021-2023"
+    };
+    private static final String[] ZONES = {"UTC", "Europe/London", "America/New_York", "Australia/Lord_Howe"};
+
+    private CronParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    }
+
+    @Test
+    public void testCursorAgreesWithNextExecution() {
+        for (final String expression : EXPRESSIONS) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            for (final String zone : ZONES) {
+                final ZonedDateTime start = ZonedDateTime.of(2021, 3, 12, 23, 59, 30, 0, ZoneId.of(zone));
+                final CronCursor cursor = executionTime.cursor(start);
+                Optional<ZonedDateTime> expected = executionTime.nextExecution(start);
+                for (int j = 0; j < 400; j++) {
+                    final Optional<ZonedDateTime> next = cursor.next();
+                    assertEquals(expected.map(ZonedDateTime::toInstant), next.map(ZonedDateTime::toInstant), expression + " " + zone + " " + j);
+                    if (!expected.isPresent()) {
+                        break;
+                    }
+                    expected = executionTime.nextExecution(expected.get());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCursorOverYearOfMinutes() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 * * * * ?"));
+        final ZonedDateTime start = ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/London"));
+        final ZonedDateTime end = start.plusYears(1);
+        final CronCursor cursor = executionTime.cursor(start);
+        int count = 0;
+        while (cursor.nextEpochSecond() <= end.toEpochSecond()) {
+            count++;
+        }
+        assertEquals(executionTime.countExecutions(start, end), count);
+    }
+
+    @Test
+    public void testCursorWithoutFurtherExecutions() {
+        final CronCursor cursor = ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2020")).cursor(ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC")));
+        assertFalse(cursor.next().isPresent());
+        assertEquals(ExecutionTime.NO_EXECUTION, cursor.nextEpochSecond());
+    }
+
+    @Test
+    public void testCompositeCursor() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(new CompositeCron(Arrays.asList(parser.parse("0 0 12 * * ?"), parser.parse("0 30 6 ? * MON"))));
+        final ZonedDateTime start = ZonedDateTime.of(2021, 3, 26, 0, 0, 0, 0, ZoneId.of("Europe/London"));
+        final CronCursor cursor = executionTime.cursor(start);
+        ZonedDateTime expected = start;
+        for (int j = 0; j < 20; j++) {
+            expected = executionTime.nextExecution(expected).get();
+            assertEquals(expected.toInstant(), cursor.next().get().toInstant());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CronRegistryTest {
+    private static final String[] QUARTZ_EXPRESSIONS = {
+            "0 0 12 * * ?",
+            "0 0/15 * * * ?",
+            "0 0 12 ? * MON-FRI",
+            "0 0 12 L * ?",
+            "0 0 12 15W * ?",
+            "0 0 12 ? * 6#3",
+            "0 0 12 1,15 * ? 2021",
+            "30 30 2 * * ?"
+    };
+    private static final String[] UNIX_EXPRESSIONS = {
+            "0 12 * * *",
+            "*/5 * 1-7 * *",
+            "0 12 * * 1"
+    };
+
+    private CronRegistry registry;
+    private List<Cron> crons;
+
+    @BeforeEach
+    public void setUp() {
+        final CronParser quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        final CronParser unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        registry = new CronRegistry();
+        crons = new ArrayList<>();
+        for (final String expression : QUARTZ_EXPRESSIONS) {
+            crons.add(quartzParser.parse(expression));
+        }
+        for (final String expression : UNIX_EXPRESSIONS) {
+            crons.add(unixParser.parse(expression));
+        }
+        crons.forEach(registry::add);
+    }
+
+    @Test
+    public void testFindMatchingAgreesWithIsMatch() {
+        final List<ZonedDateTime> dates = Arrays.asList(
+                ZonedDateTime.of(2021, 1, 15, 12, 0, 0, 0, ZoneId.of("UTC")),
+                ZonedDateTime.of(2021, 1, 4, 12, 0, 0, 0, ZoneId.of("UTC")),
+                ZonedDateTime.of(2021, 2, 28, 12, 0, 0, 0, ZoneId.of("Europe/London")),
+                ZonedDateTime.of(2021, 2, 19, 12, 0, 0, 0, ZoneId.of("Asia/Kolkata")),
+                ZonedDateTime.of(2022, 6, 3, 12, 0, 0, 0, ZoneId.of("UTC")),
+                ZonedDateTime.of(2022, 6, 3, 12, 0, 35, 0, ZoneId.of("UTC")),
+                ZonedDateTime.of(2022, 6, 3, 7, 45, 0, 0, ZoneId.of("UTC")),
+                ZonedDateTime.of(2021, 3, 14, 3, 30, 30, 0, ZoneId.of("America/New_York")),
+                ZonedDateTime.of(2021, 11, 7, 1, 15, 0, 0, ZoneId.of("America/New_York"))
+        );
+        for (final ZonedDateTime date : dates) {
+            final List<Cron> expected = new ArrayList<>();
+            for (final Cron cron : crons) {
+                if (ExecutionTime.forCron(cron).isMatch(date)) {
+                    expected.add(cron);
+                }
+            }
+            assertEquals(expected, registry.findMatching(date), date.toString());
+        }
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        final Cron cron = crons.get(0);
+        final ZonedDateTime date = ZonedDateTime.of(2021, 1, 15, 12, 0, 0, 0, ZoneId.of("UTC"));
+        assertEquals(crons.size(), registry.size());
+        assertFalse(registry.add(cron));
+        assertTrue(registry.findMatching(date).contains(cron));
+
+        assertTrue(registry.remove(cron));
+        assertFalse(registry.remove(cron));
+        assertFalse(registry.findMatching(date).contains(cron));
+        assertEquals(crons.size() - 1, registry.size());
+
+        assertTrue(registry.add(cron));
+        assertTrue(registry.findMatching(date).contains(cron));
+    }
+
+    @Test
+    public void testEmptyRegistry() {
+        assertEquals(Collections.emptyList(), new CronRegistry().findMatching(ZonedDateTime.now()));
+    }
+}
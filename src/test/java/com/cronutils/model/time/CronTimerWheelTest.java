@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CronTimerWheelTest {
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+    private static final ZonedDateTime START = ZonedDateTime.of(2021, 3, 27, 22, 0, 0, 0, ZONE);
+
+    private CronParser parser;
+    private CronTimerWheel<String> wheel;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        wheel = new CronTimerWheel<>(START.toEpochSecond());
+    }
+
+    @Test
+    public void testFiresEachExecutionInOrder() {
+        final List<String> expressions = Arrays.asList("0 0/15 * * * ?", "0 30 1 * * ?", "17 * * * * ?", "0 0 0 1 * ?", "0 0 12 ? * MON");
+        final List<String> expected = new ArrayList<>();
+        final ZonedDateTime end = START.plusDays(12).plusSeconds(7);
+        for (final String expression : expressions) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            wheel.schedule(executionTime, ZONE, expression);
+            executionTime.getExecutionDates(START, end).forEach(date -> expected.add(date.toEpochSecond() + " " + expression));
+        }
+        Collections.sort(expected);
+
+        final List<String> fired = new ArrayList<>();
+        final List<Long> firedTimes = new ArrayList<>();
+        final Random random = new Random(42);
+        long time = START.toEpochSecond();
+        while (time < end.toEpochSecond()) {
+            time = Math.min(end.toEpochSecond(), time + random.nextInt(20_000));
+            wheel.advance(time, timer -> {
+                fired.add(timer.getExecutionEpochSecond() + " " + timer.getValue());
+                firedTimes.add(timer.getExecutionEpochSecond());
+            });
+        }
+        final List<Long> sortedTimes = new ArrayList<>(firedTimes);
+        Collections.sort(sortedTimes);
+        assertEquals(sortedTimes, firedTimes);
+        Collections.sort(fired);
+        assertEquals(expected, fired);
+        assertEquals(expressions.size(), wheel.size());
+    }
+
+    @Test
+    public void testCancel() {
+        final CronTimerWheel.Timer<String> hourly = wheel.schedule(ExecutionTime.forCron(parser.parse("0 0 * * * ?")), ZONE, "hourly");
+        final CronTimerWheel.Timer<String> daily = wheel.schedule(ExecutionTime.forCron(parser.parse("0 0 0 * * ?")), ZONE, "daily");
+        assertTrue(wheel.cancel(daily));
+        assertFalse(wheel.cancel(daily));
+        assertFalse(daily.isScheduled());
+
+        final List<String> fired = new ArrayList<>();
+        wheel.advance(START.plusDays(1).toEpochSecond(), timer -> {
+            fired.add(timer.getValue());
+            if (fired.size() == 3) {
+                assertTrue(wheel.cancel(timer));
+            }
+        });
+        assertEquals(Arrays.asList("hourly", "hourly", "hourly"), fired);
+        assertFalse(hourly.isScheduled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testNoFurtherExecutions() {
+        final CronTimerWheel.Timer<String> timer = wheel.schedule(ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2020")), ZONE, "past");
+        assertFalse(timer.isScheduled());
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.mapper.WeekDay;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DayOfWeekTableTest {
+    private static final CronParser PARSER = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    private static final WeekDay QUARTZ_MONDAY = new WeekDay(2, false);
+
+    @Test
+    public void testMatchesGenerators() {
+        for (final String expression : new String[] {"*", "2", "2-6", "6-2", "2/3", "L", "6L", "1#1", "5#5", "1,4#2,7L"}) {
+            final CronField cronField = parse(expression);
+            final DayOfWeekTable table = new DayOfWeekTable(cronField, QUARTZ_MONDAY);
+            for (int year = 1995; year <= 2030; year++) {
+                for (int month = 1; month <= 12; month++) {
+                    final int lengthOfMonth = LocalDate.of(year, month, 1).lengthOfMonth();
+                    long expected = 0;
+                    for (final int day : FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(cronField, year, month, QUARTZ_MONDAY)
+                            .generateCandidates(1, lengthOfMonth)) {
+                        expected |= 1L << day;
+                    }
+                    assertEquals(expected, table.daysOfMonth(year, month), expression + " " + year + "-" + month);
+                }
+            }
+        }
+    }
+
+    private static CronField parse(final String expression) {
+        return PARSER.parse("0 0 0 ? * " + expression).retrieve(CronFieldName.DAY_OF_WEEK);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExecutionIteratorTest {
+    private static final ZonedDateTime REFERENCE = ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private CronParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    }
+
+    @Test
+    public void testExecutionsFromIsLazyAndOrdered() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("* * * * * ?"));
+        final List<ZonedDateTime> executions = executionTime.executionsFrom(REFERENCE)
+                .filter(date -> date.getSecond() % 20 == 0)
+                .limit(3)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(REFERENCE.plusSeconds(20), REFERENCE.plusSeconds(40), REFERENCE.plusSeconds(60)), executions);
+    }
+
+    @Test
+    public void testExecutionsFromMatchesExecutionDates() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0/7 9-17 ? * MON-FRI"));
+        final ZonedDateTime end = REFERENCE.plusDays(10);
+        final List<ZonedDateTime> executions = executionTime.executionsFrom(REFERENCE)
+                .filter(date -> !date.isAfter(end))
+                .limit(executionTime.countExecutions(REFERENCE, end))
+                .collect(Collectors.toList());
+        assertEquals(executionTime.getExecutionDates(REFERENCE, end), executions);
+    }
+
+    @Test
+    public void testIteratorEndsWhenNoFurtherExecutions() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 12 1 1 ? 2022-2023"));
+        final Iterator<ZonedDateTime> executions = executionTime.executionIterator(REFERENCE);
+        assertEquals(REFERENCE.withYear(2022).withHour(12), executions.next());
+        assertTrue(executions.hasNext());
+        assertEquals(REFERENCE.withYear(2023).withHour(12), executions.next());
+        assertFalse(executions.hasNext());
+        assertThrows(NoSuchElementException.class, executions::next);
+    }
+}
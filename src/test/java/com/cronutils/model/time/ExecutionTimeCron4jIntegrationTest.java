@@ -279,4 +279,18 @@ public class ExecutionTimeCron4jIntegrationTest {
         assertTrue(next.isPresent());
         assertEquals(ZonedDateTime.parse("2019-11-09T23:20Z"), next.get());
     }
+
+    @Test
+    public void testIsMatchOnEveryMinuteAroundExecutions() {
+        final ExecutionTime execTime = ExecutionTime.forCron(cron4jCronParser.parse("5,35 9-17 1-7 * mon"));
+        final ZonedDateTime startDate = ZonedDateTime.parse("2021-03-01T00:00Z");
+        ZonedDateTime next = execTime.nextExecution(startDate).orElseThrow(IllegalStateException::new);
+        for (ZonedDateTime date = startDate; date.isBefore(startDate.plusDays(14)); date = date.plusMinutes(1)) {
+            if (date.isAfter(next)) {
+                next = execTime.nextExecution(date.minusMinutes(1)).orElseThrow(IllegalStateException::new);
+            }
+            assertEquals(date.equals(next), execTime.isMatch(date), date.toString());
+        }
+        assertTrue(execTime.isMatch(ZonedDateTime.parse("2021-03-01T09:05:42.5Z")));
+    }
 }
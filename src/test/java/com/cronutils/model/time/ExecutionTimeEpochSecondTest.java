@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ExecutionTimeEpochSecondTest {
+    private static final String[] EXPRESSIONS = {
+            "0 0 12 * * ?",
+            "0/15 * * * * ?",
+            "0 30 2 * * ?",
+            "0 0 0 L * ?",
+            "0 0 12 31 * ?",
+            "0 0 9 ? * MON-FRI",
+            "0 0 0 29 2 ?",
+            "0 15 10 ? * 6#3",
+            "59 59 23 31 12 ? 2030"
+    };
+    private static final String[] ZONES = {"UTC", "America/New_York", "Europe/London", "Australia/Lord_Howe", "Asia/Kolkata"};
+
+    private CronParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    }
+
+    @Test
+    public void testMatchesZonedExecutions() {
+        for (final String expression : EXPRESSIONS) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            for (final String zoneId : ZONES) {
+                final ZoneId zone = ZoneId.of(zoneId);
+                ZonedDateTime date = ZonedDateTime.of(2020, 1, 31, 23, 59, 59, 0, zone);
+                for (int i = 0; i < 40; i++) {
+                    final String message = String.format("%s at %s", expression, date);
+                    assertEquals(toEpochSecond(executionTime.nextExecution(date).orElse(null)),
+                            executionTime.nextExecutionEpochSecond(date.toEpochSecond(), zone), message);
+                    assertEquals(toEpochSecond(executionTime.lastExecution(date).orElse(null)),
+                            executionTime.lastExecutionEpochSecond(date.toEpochSecond(), zone), message);
+                    date = date.plusDays(23).plusHours(7).plusMinutes(11);
+                }
+            }
+        }
+    }
+
+    /**
+     * Local times skipped by a daylight saving gap are not executions, same as for nextExecution.
+     */
+    @Test
+    public void testDaylightSavingTimeGap() {
+        final ZoneId zone = ZoneId.of("America/New_York");
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 30 2 * * ?"));
+        final ZonedDateTime date = ZonedDateTime.of(2021, 3, 14, 1, 0, 0, 0, zone);
+        final ZonedDateTime expected = ZonedDateTime.of(2021, 3, 15, 2, 30, 0, 0, zone);
+        assertEquals(expected.toEpochSecond(), executionTime.nextExecutionEpochSecond(date.toEpochSecond(), zone));
+    }
+
+    @Test
+    public void testNoExecution() {
+        final ZoneId zone = ZoneId.of("UTC");
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2020"));
+        final long afterLastExecution = ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, zone).toEpochSecond();
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.nextExecutionEpochSecond(afterLastExecution, zone));
+        final long beforeFirstExecution = ZonedDateTime.of(2019, 1, 1, 0, 0, 0, 0, zone).toEpochSecond();
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.lastExecutionEpochSecond(beforeFirstExecution, zone));
+    }
+
+    private static long toEpochSecond(final ZonedDateTime date) {
+        return date == null ? ExecutionTime.NO_EXECUTION : date.toEpochSecond();
+    }
+}
@@ -926,6 +926,50 @@ public class ExecutionTimeQuartzIntegrationTest {
         throw new NullPointerException(NEXT_EXECUTION_NOT_PRESENT_ERROR);
     }
 
+    @Test
+    public void testNextAndLastHourCarryIntoDay() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 23 * * ?"));
+        final ZonedDateTime midnight = ZonedDateTime.of(2021, 6, 1, 0, 0, 0, 0, UTC);
+        assertEquals(Optional.of(midnight.withHour(23)), executionTime.nextExecution(midnight));
+        assertEquals(Optional.of(midnight.minusHours(1)), executionTime.lastExecution(midnight.withHour(22)));
+    }
+
+    @Test
+    public void testNextMinuteAcrossDaylightSavingGap() {
+        final ZoneId zone = ZoneId.of("America/New_York");
+        assertExpectedNextExecution("0 30 * * * ?", ZonedDateTime.of(2021, 3, 14, 1, 45, 0, 0, zone),
+                ZonedDateTime.of(2021, 3, 14, 3, 30, 0, 0, zone));
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 30 * * * ?"));
+        assertEquals(Optional.of(ZonedDateTime.of(2021, 3, 14, 1, 30, 0, 0, zone)),
+                executionTime.lastExecution(ZonedDateTime.of(2021, 3, 14, 3, 15, 0, 0, zone)));
+    }
+
+    @Test
+    public void testLastExecutionSkipsYearsWithoutMatches() {
+        final ExecutionTime leapDays = ExecutionTime.forCron(parser.parse("0 0 0 29 2 ? 2032/4"));
+        assertEquals(Optional.of(ZonedDateTime.of(2096, 2, 29, 0, 0, 0, 0, UTC)),
+                leapDays.lastExecution(ZonedDateTime.of(2099, 12, 31, 0, 0, 0, 0, UTC)));
+        assertEquals(Optional.empty(), leapDays.lastExecution(ZonedDateTime.of(2031, 6, 1, 0, 0, 0, 0, UTC)));
+
+        final ExecutionTime fourthSundays = ExecutionTime.forCron(parser.parse("0 0 12 ? * SUN#4 2020"));
+        assertEquals(Optional.of(ZonedDateTime.of(2020, 12, 27, 12, 0, 0, 0, UTC)),
+                fourthSundays.lastExecution(ZonedDateTime.of(2025, 11, 15, 3, 3, 0, 0, UTC)));
+    }
+
+    @Test
+    public void testSearchHorizon() {
+        final Cron cron = parser.parse("0 0 0 1 1 ? 1990,2060");
+        final ZonedDateTime date = ZonedDateTime.of(2021, 6, 1, 0, 0, 0, 0, UTC);
+        assertEquals(Optional.of(ZonedDateTime.of(1990, 1, 1, 0, 0, 0, 0, UTC)), ExecutionTime.forCron(cron).lastExecution(date));
+        assertEquals(Optional.of(ZonedDateTime.of(2060, 1, 1, 0, 0, 0, 0, UTC)), ExecutionTime.forCron(cron).nextExecution(date));
+
+        final ExecutionTime withinTenYears = ExecutionTime.forCron(cron, 10);
+        assertEquals(Optional.empty(), withinTenYears.lastExecution(date));
+        assertEquals(Optional.empty(), withinTenYears.nextExecution(date));
+        assertEquals(ExecutionTime.NO_EXECUTION, withinTenYears.lastExecutionEpochSecond(date.toEpochSecond(), UTC));
+        assertThrows(IllegalArgumentException.class, () -> ExecutionTime.forCron(cron, 0));
+    }
+
     private ZonedDateTime truncateToSeconds(final ZonedDateTime dateTime) {
         return dateTime.truncatedTo(ChronoUnit.SECONDS);
     }
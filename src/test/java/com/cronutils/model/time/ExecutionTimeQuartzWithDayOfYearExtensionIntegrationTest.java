@@ -18,8 +18,12 @@ import com.cronutils.parser.CronParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static java.time.ZoneOffset.UTC;
@@ -242,4 +246,17 @@ public class ExecutionTimeQuartzWithDayOfYearExtensionIntegrationTest {
         }
     }
 
+    @Test
+    public void testDaysOfYearInLeapAndCommonYears() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 0 ? * ? * 60,366"));
+        final List<ZonedDateTime> expected = new ArrayList<>();
+        for (int year = 2019; year <= 2024; year++) {
+            expected.add(LocalDate.ofYearDay(year, 60).atStartOfDay(UTC));
+            if (Year.isLeap(year)) {
+                expected.add(LocalDate.ofYearDay(year, 366).atStartOfDay(UTC));
+            }
+        }
+        assertEquals(expected, executionTime.getExecutionDates(ZonedDateTime.of(2018, 12, 31, 0, 0, 0, 0, UTC),
+                ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, UTC)));
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.time.generator.FieldValueGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldMaskTest {
+    private FieldMask fieldMask;
+
+    @BeforeEach
+    public void setUp() {
+        fieldMask = FieldMask.of(Arrays.asList(59, 2, 30, 4));
+    }
+
+    @Test
+    public void testContains() {
+        assertTrue(fieldMask.contains(2));
+        assertTrue(fieldMask.contains(59));
+        assertFalse(fieldMask.contains(3));
+        assertFalse(fieldMask.contains(-1));
+        assertFalse(fieldMask.contains(64));
+    }
+
+    @Test
+    public void testFirstLastAndSize() {
+        assertEquals(2, fieldMask.first());
+        assertEquals(59, fieldMask.last());
+        assertEquals(4, fieldMask.size());
+    }
+
+    @Test
+    public void testNextValue() {
+        assertEquals(2, fieldMask.nextValue(-5));
+        assertEquals(2, fieldMask.nextValue(2));
+        assertEquals(4, fieldMask.nextValue(3));
+        assertEquals(59, fieldMask.nextValue(31));
+        assertEquals(FieldValueGenerator.NO_VALUE, fieldMask.nextValue(60));
+        assertEquals(FieldValueGenerator.NO_VALUE, fieldMask.nextValue(64));
+    }
+
+    @Test
+    public void testPreviousValue() {
+        assertEquals(59, fieldMask.previousValue(100));
+        assertEquals(30, fieldMask.previousValue(58));
+        assertEquals(4, fieldMask.previousValue(4));
+        assertEquals(FieldValueGenerator.NO_VALUE, fieldMask.previousValue(1));
+        assertEquals(FieldValueGenerator.NO_VALUE, fieldMask.previousValue(-1));
+    }
+
+    @Test
+    public void testValues() {
+        assertEquals(Arrays.asList(2, 4, 30, 59), FieldMask.values(fieldMask.getMask()));
+        assertEquals(Collections.singletonList(63), FieldMask.values(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testHighestBit() {
+        final FieldMask highest = FieldMask.of(Collections.singletonList(63));
+        assertEquals(63, highest.nextValue(0));
+        assertEquals(63, highest.previousValue(63));
+        assertEquals(63, highest.last());
+    }
+
+    @Test
+    public void testEmptyValuesNotAllowed() {
+        assertThrows(IllegalArgumentException.class, () -> FieldMask.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void testOutOfRangeValuesNotAllowed() {
+        assertThrows(IllegalArgumentException.class, () -> FieldMask.of(Collections.singletonList(64)));
+    }
+}
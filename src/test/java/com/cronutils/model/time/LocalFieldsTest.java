@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LocalFieldsTest {
+
+    @Test
+    public void testToEpochDayRoundTrip() {
+        for (LocalDate date = LocalDate.of(1599, 12, 1); date.getYear() < 2402; date = date.plusDays(13)) {
+            final long epochDay = LocalFields.toEpochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            assertEquals(date.toEpochDay(), epochDay);
+            final long packed = LocalFields.toDate(epochDay);
+            assertEquals(date, LocalDate.of(LocalFields.year(packed), LocalFields.month(packed), LocalFields.day(packed)));
+        }
+    }
+
+    @Test
+    public void testToEpochSecond() {
+        final LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 23, 59, 58);
+        assertEquals(dateTime.toEpochSecond(ZoneOffset.UTC), LocalFields.toEpochSecond(2024, 2, 29, 23, 59, 58));
+    }
+
+    @Test
+    public void testLengthOfMonth() {
+        for (int year = 1900; year <= 2100; year++) {
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(LocalDate.of(year, month, 1).lengthOfMonth(), LocalFields.lengthOfMonth(year, month));
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchTraceTest {
+    private static final ZonedDateTime SATURDAY = ZonedDateTime.of(2021, 3, 27, 22, 17, 31, 0, ZoneId.of("UTC"));
+
+    private CronParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    }
+
+    @Test
+    public void testTraceHoldsNextExecution() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 12 ? * MON-FRI"));
+        final SearchTrace trace = executionTime.explainNext(SATURDAY);
+        assertEquals(executionTime.nextExecution(SATURDAY), trace.getResult());
+        assertEquals(trace.getCarries().size() + 1, trace.getIterations());
+        assertTrue(trace.getCarryCount(CronFieldName.DAY_OF_MONTH) > 0);
+        assertEquals(0, trace.getCarryCount(CronFieldName.YEAR));
+        assertTrue(trace.getDayCandidateGenerations() > 0);
+        assertFalse(trace.isDstOverlap());
+    }
+
+    @Test
+    public void testCachedDaysAreNotCounted() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 12 ? * MON-FRI"));
+        assertTrue(executionTime.explainNext(SATURDAY).getDayCandidateGenerations() > 0);
+        assertEquals(0, executionTime.explainNext(SATURDAY).getDayCandidateGenerations());
+    }
+
+    @Test
+    public void testYearCarries() {
+        final SearchTrace trace = ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2030")).explainNext(SATURDAY);
+        assertEquals(ZonedDateTime.of(2030, 1, 1, 0, 0, 0, 0, SATURDAY.getZone()), trace.getResult().get());
+        assertEquals(CronFieldName.YEAR, trace.getCarries().get(0));
+    }
+
+    @Test
+    public void testYearsWithoutExecutionsAreSkipped() {
+        final SearchTrace trace = ExecutionTime.forCron(parser.parse("0 0 0 29 2 ? *")).explainNext(SATURDAY);
+        assertEquals(ZonedDateTime.of(2024, 2, 29, 0, 0, 0, 0, SATURDAY.getZone()), trace.getResult().get());
+        assertEquals(1, trace.getCarryCount(CronFieldName.YEAR));
+        assertEquals(0, trace.getCarryCount(CronFieldName.MONTH));
+        assertEquals(0, trace.getCarryCount(CronFieldName.DAY_OF_MONTH));
+    }
+
+    @Test
+    public void testNoExecution() {
+        final SearchTrace trace = ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2020")).explainNext(SATURDAY);
+        assertFalse(trace.getResult().isPresent());
+        assertTrue(trace.getIterations() > 0);
+    }
+
+    @Test
+    public void testDstOverlap() {
+        final ZonedDateTime date = ZonedDateTime.of(2021, 11, 7, 1, 30, 0, 0, ZoneId.of("America/New_York"));
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 30 1 * * ?"));
+        final SearchTrace trace = executionTime.explainNext(date);
+        assertTrue(trace.isDstOverlap());
+        assertEquals(executionTime.nextExecution(date), trace.getResult());
+    }
+
+    @Test
+    public void testCompositeAddsUpMembers() {
+        final ExecutionTime first = ExecutionTime.forCron(parser.parse("0 0 12 ? * MON-FRI"));
+        final ExecutionTime second = ExecutionTime.forCron(parser.parse("0 30 9 ? * SAT,SUN"));
+        final SearchTrace trace = ExecutionTime.forCron(parser.parse("0 0 12 ? * MON-FRI || 0 30 9 ? * SAT,SUN")).explainNext(SATURDAY);
+        assertEquals(first.explainNext(SATURDAY).getIterations() + second.explainNext(SATURDAY).getIterations(), trace.getIterations());
+        assertEquals(second.nextExecution(SATURDAY), trace.getResult());
+    }
+}
@@ -17,12 +17,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TimeNodeTest {
     private static final int LIST_START_VALUE = 2;
@@ -77,30 +77,33 @@ public class TimeNodeTest {
     }
 
     @Test
-    public void testGetValueFromListWhereIndexLessThanZero() {
-        final int index = -1;
-        final int expectedShifts = 1;
-        final AtomicInteger shift = new AtomicInteger(0);
-        final List<Integer> list = Arrays.asList(1, 2, 3, 4);
-        final int value = timeNode.getValueFromList(list, index, shift);
-        assertEquals(expectedShifts, shift.get(), String.format("Shift was: %s; expected: %s", shift.get(), expectedShifts));
-        assertEquals((int) list.get(list.size() + index), value);
+    public void testShiftsWrapAroundSeveralTimes() {
+        assertResult(LIST_START_VALUE, 2, timeNode.getNextValue(LIST_MEDIUM_VALUE, 5));
+        assertResult(LIST_END_VALUE, 2, timeNode.getPreviousValue(LIST_MEDIUM_VALUE, 5));
+        assertResult(LIST_MEDIUM_VALUE, 1, timeNode.getNextValue(LIST_END_VALUE + 1, 1));
+        assertResult(LIST_START_VALUE, 0, timeNode.getPreviousValue(HIGH_INTERMEDIATE_VALUE, 2));
+        assertResult(LIST_END_VALUE, 1, timeNode.getPreviousValue(HIGH_INTERMEDIATE_VALUE, 3));
     }
 
     @Test
-    public void testGetValueFromListWhereIndexMoreThanZero() {
-        final int index = 1;
-        final int expectedShifts = 0;
-        final AtomicInteger shift = new AtomicInteger(0);
-        final List<Integer> list = Arrays.asList(1, 2, 3, 4);
-        final int value = timeNode.getValueFromList(list, index, shift);
-        assertEquals(expectedShifts, shift.get(), String.format("Shift was: %s; expected: %s", shift.get(), expectedShifts));
-        assertEquals((int) list.get(index), value);
+    public void testPackedNearestValue() {
+        final long nearest = timeNode.getNearestForwardValue(HIGH_INTERMEDIATE_VALUE, 0);
+        assertEquals(LIST_END_VALUE, NearestValue.value(nearest));
+        assertEquals(0, NearestValue.shifts(nearest));
+        assertEquals(-3, NearestValue.value(NearestValue.pack(-3, 7)));
+        assertEquals(7, NearestValue.shifts(NearestValue.pack(-3, 7)));
     }
 
     @Test
-    public void testGetValueFromListWithEmptyList() {
-        assertThrows(IllegalArgumentException.class, () -> timeNode.getValueFromList(new ArrayList<>(), 0, new AtomicInteger(0)));
+    public void testContains() {
+        assertTrue(timeNode.contains(LIST_MEDIUM_VALUE));
+        assertFalse(timeNode.contains(HIGH_INTERMEDIATE_VALUE));
+        assertEquals(LIST_START_VALUE, timeNode.getLowestValue());
+    }
+
+    @Test
+    public void testEmptyValues() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeNode(new ArrayList<>()));
     }
 
     private void assertResult(final int value, final int shift, final NearestValue nearestValue) {
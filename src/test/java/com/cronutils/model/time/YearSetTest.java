@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
+import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.time.generator.FieldValueGenerator;
+import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class YearSetTest {
+    private static final String[] YEAR_EXPRESSIONS = {"*", "2020", "2017/3", "2020-2030", "1970,2000,2099", "2021-2025,2040/7"};
+    private static final int SCAN_START = 1900;
+    private static final int SCAN_END = 2200;
+
+    @Test
+    public void testAgreesWithGeneratorMatches() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        for (final String expression : YEAR_EXPRESSIONS) {
+            final CronField field = parser.parse("0 0 0 1 1 ? " + expression).retrieve(CronFieldName.YEAR);
+            final FieldValueGenerator generator = FieldValueGeneratorFactory.forCronField(field);
+            final YearSet years = YearSet.of(generator, field.getConstraints());
+            for (int year = field.getConstraints().getStartRange(); year <= field.getConstraints().getEndRange(); year++) {
+                assertEquals(generator.isMatch(year), years.contains(year), expression + " " + year);
+                assertEquals(nextMatch(generator, year), nextOrNull(years, year), expression + " after " + year);
+                assertEquals(previousMatch(generator, year), previousOrNull(years, year), expression + " before " + year);
+            }
+        }
+    }
+
+    @Test
+    public void testUnboundedRange() {
+        final CronField field = new CronField(CronFieldName.YEAR, Always.always(), FieldConstraintsBuilder.instance().createConstraintsInstance());
+        final YearSet years = YearSet.of(FieldValueGeneratorFactory.forCronField(field), field.getConstraints());
+        assertTrue(years.contains(1_000_000));
+        assertEquals(1_000_001, years.next(1_000_000));
+        assertEquals(999_999, years.previous(1_000_000));
+    }
+
+    @Test
+    public void testNoFurtherYears() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        final CronField field = parser.parse("0 0 0 1 1 ? 2020").retrieve(CronFieldName.YEAR);
+        final YearSet years = YearSet.of(FieldValueGeneratorFactory.forCronField(field), field.getConstraints());
+        assertEquals(FieldValueGenerator.NO_VALUE, years.next(2020));
+        assertEquals(FieldValueGenerator.NO_VALUE, years.previous(2020));
+    }
+
+    private static Integer nextMatch(final FieldValueGenerator generator, final int year) {
+        for (int candidate = year + 1; candidate <= SCAN_END; candidate++) {
+            if (generator.isMatch(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Integer nextOrNull(final YearSet years, final int year) {
+        final int next = years.next(year);
+        return next == FieldValueGenerator.NO_VALUE ? null : next;
+    }
+
+    private static Integer previousMatch(final FieldValueGenerator generator, final int year) {
+        for (int candidate = year - 1; candidate >= SCAN_START; candidate--) {
+            if (generator.isMatch(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Integer previousOrNull(final YearSet years, final int year) {
+        final int previous = years.previous(year);
+        return previous == FieldValueGenerator.NO_VALUE ? null : previous;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class YearTypeTest {
+
+    @Test
+    public void testOf() {
+        for (int year = -800; year <= 2800; year++) {
+            final LocalDate firstDay = LocalDate.of(year, 1, 1);
+            final int expected = (firstDay.isLeapYear() ? 7 : 0) + firstDay.getDayOfWeek().getValue() - 1;
+            assertEquals(expected, YearType.of(year), "year " + year);
+        }
+    }
+
+    @Test
+    public void testRepresentativeYear() {
+        for (int type = 0; type < YearType.COUNT; type++) {
+            assertEquals(type, YearType.of(YearType.representativeYear(type)));
+        }
+    }
+}
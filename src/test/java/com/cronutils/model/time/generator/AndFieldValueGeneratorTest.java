@@ -19,6 +19,7 @@ import com.cronutils.model.field.constraint.FieldConstraints;
 import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
 import com.cronutils.model.field.expression.And;
 import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.FieldExpressionFactory;
 import com.cronutils.model.field.expression.On;
 import com.cronutils.model.field.value.IntegerFieldValue;
 import org.junit.jupiter.api.BeforeEach;
@@ -85,6 +86,22 @@ public class AndFieldValueGeneratorTest {
         assertFalse(fieldValueGenerator.isMatch(NOT_CONSIDERED_VALUE));
     }
 
+    @Test
+    public void testCompiledValuesAgreeWithExpressions() {
+        final FieldExpression expression = new And()
+                .and(new On(new IntegerFieldValue(59)))
+                .and(FieldExpressionFactory.between(20, 25))
+                .and(FieldExpressionFactory.every(FieldExpressionFactory.between(3, 38), 7));
+        final AndFieldValueGenerator compiled = new AndFieldValueGenerator(
+                new CronField(CronFieldName.MINUTE, expression, FieldConstraintsBuilder.instance().forField(CronFieldName.MINUTE).createConstraintsInstance()));
+        final AndFieldValueGenerator notCompiled = new AndFieldValueGenerator(new CronField(CronFieldName.MINUTE, expression, constraints));
+        for (int value = 0; value <= 59; value++) {
+            assertEquals(notCompiled.isMatch(value), compiled.isMatch(value), "isMatch " + value);
+            assertEquals(notCompiled.nextValue(value), compiled.nextValue(value), "nextValue " + value);
+            assertEquals(notCompiled.previousValue(value), compiled.previousValue(value), "previousValue " + value);
+        }
+    }
+
     @Test
     public void testMatchesFieldExpressionClass() {
         assertTrue(fieldValueGenerator.matchesFieldExpressionClass(mock(And.class)));
@@ -59,6 +59,12 @@ public class EveryFieldValueGeneratorTest {
         }
     }
 
+    @Test
+    public void testPreviousValueNotBelowStart() {
+        assertEquals(FieldValueGenerator.NO_VALUE, fieldValueGenerator.previousValue(0));
+        assertThrows(NoSuchValueException.class, () -> fieldValueGenerator.generatePreviousValue(0));
+    }
+
     @Test
     public void testGenerateCandidatesNotIncludingIntervalExtremes() {
         final int candidatesQty = 7;
@@ -571,4 +571,28 @@ public class ExecutionTimeUnixIntegrationTest {
         assertTrue(nextExecution.isPresent());
         assertEquals(ZonedDateTime.of(2018, 2, 10, 0, 0, 0, 0, ZoneId.of("UTC")), nextExecution.get());
     }
+
+    @Test
+    public void testCronsThatNeverExecute() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        final ZonedDateTime date = ZonedDateTime.of(2021, 3, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        for (final String crontab : new String[] {"0 0 30 2 *", "0 0 31 4,6,9,11 *"}) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(crontab));
+            assertFalse(executionTime.nextExecution(date).isPresent(), crontab);
+            assertFalse(executionTime.lastExecution(date).isPresent(), crontab);
+            assertEquals(ExecutionTime.NO_EXECUTION, executionTime.nextExecutionEpochSecond(date.toEpochSecond(), date.getZone()), crontab);
+            assertEquals(0, executionTime.countExecutions(date, date.plusYears(8)), crontab);
+            assertFalse(executionTime.isMatch(date), crontab);
+        }
+    }
+
+    @Test
+    public void testLeapDaySkipsOtherYears() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 29 2 *"));
+        final ZonedDateTime date = ZonedDateTime.of(2021, 3, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        assertEquals(Optional.of(ZonedDateTime.of(2024, 2, 29, 0, 0, 0, 0, ZoneId.of("UTC"))), executionTime.nextExecution(date));
+        assertEquals(Optional.of(ZonedDateTime.of(2020, 2, 29, 0, 0, 0, 0, ZoneId.of("UTC"))), executionTime.lastExecution(date));
+        assertEquals(2, executionTime.countExecutions(date, date.plusYears(8)));
+    }
 }
@@ -16,12 +16,16 @@ package com.cronutils.model.time.generator;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
 import com.cronutils.model.field.expression.FieldExpression;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static com.cronutils.model.field.expression.FieldExpressionFactory.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 
@@ -44,4 +48,38 @@ public class FieldValueGeneratorTest {
         assertTrue(candidates.contains(start));
         assertTrue(candidates.contains(end));
     }
+
+    @Test
+    public void testGenerateCandidateMask() {
+        final long[] mask = fieldValueGenerator.generateCandidateMask(1, 70);
+        assertEquals(2, mask.length);
+        assertEquals(1L << 1, mask[0]);
+        assertEquals(1L << 70, mask[1]);
+    }
+
+    @Test
+    public void testGenerateCandidateMaskAgreesWithCandidates() {
+        final FieldConstraints constraints = FieldConstraintsBuilder.instance().forField(CronFieldName.MINUTE).createConstraintsInstance();
+        final List<FieldExpression> expressions = Arrays.asList(
+                always(),
+                on(17),
+                between(5, 40),
+                between(0, 59),
+                every(7),
+                every(on(3), 10),
+                every(between(10, 50), 15),
+                always().and(on(3)).and(between(20, 25))
+        );
+        for (final FieldExpression expression : expressions) {
+            final FieldValueGenerator generator = FieldValueGeneratorFactory.forCronField(new CronField(CronFieldName.MINUTE, expression, constraints));
+            for (final int[] interval : new int[][]{{0, 59}, {3, 3}, {10, 20}, {40, 59}}) {
+                final long[] mask = generator.generateCandidateMask(interval[0], interval[1]);
+                final List<Integer> values = new ArrayList<>();
+                for (long remaining = mask[0]; remaining != 0; remaining &= remaining - 1) {
+                    values.add(Long.numberOfTrailingZeros(remaining));
+                }
+                assertEquals(generator.generateCandidates(interval[0], interval[1]), values, expression.asString());
+            }
+        }
+    }
 }
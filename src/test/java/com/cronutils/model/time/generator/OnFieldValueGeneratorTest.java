@@ -55,6 +55,14 @@ public class OnFieldValueGeneratorTest {
         assertThrows(NoSuchValueException.class, () -> fieldValueGenerator.generatePreviousValue(DAY));
     }
 
+    @Test
+    public void testNextAndPreviousValueWithoutValue() {
+        assertEquals(DAY, fieldValueGenerator.nextValue(1));
+        assertEquals(FieldValueGenerator.NO_VALUE, fieldValueGenerator.nextValue(DAY));
+        assertEquals(DAY, fieldValueGenerator.previousValue(DAY + 1));
+        assertEquals(FieldValueGenerator.NO_VALUE, fieldValueGenerator.previousValue(DAY));
+    }
+
     @Test
     public void testGenerateCandidatesNotIncludingIntervalExtremes() {
         final List<Integer> candidates = fieldValueGenerator.generateCandidatesNotIncludingIntervalExtremes(1, 32);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.CronMetrics;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CronParserCacheTest {
+
+    @Test
+    public void testReturnsCachedCron() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), 10);
+        final Cron cron = parser.parse("0 0 12 ? * mon-fri");
+        assertSame(cron, parser.parse("0 0 12 ? * mon-fri"));
+        assertSame(cron, parser.parse("  0  0\t12 ? * MON-FRI "));
+        assertEquals(2, parser.getCacheHits());
+        assertEquals(1, parser.getCacheMisses());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX), 2);
+        final Cron first = parser.parse("0 1 * * *");
+        final Cron second = parser.parse("0 2 * * *");
+        assertSame(first, parser.parse("0 1 * * *"));
+        parser.parse("0 3 * * *");
+        assertSame(first, parser.parse("0 1 * * *"));
+        assertNotSame(second, parser.parse("0 2 * * *"));
+    }
+
+    @Test
+    public void testNicknamesAndFailures() {
+        final CronDefinition definition = CronDefinitionBuilder.defineCron()
+                .withMinutes().and()
+                .withHours().and()
+                .withDayOfMonth().and()
+                .withMonth().and()
+                .withDayOfWeek().withValidRange(0, 7).withMondayDoWValue(1).withIntMapping(7, 0).and()
+                .withSupportedNicknameDaily()
+                .instance();
+        final CronParser parser = new CronParser(definition, 10);
+        assertSame(parser.parse("@daily"), parser.parse("@daily"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(" @daily"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(" @daily"));
+        assertEquals(1, parser.getCacheHits());
+        assertEquals(3, parser.getCacheMisses());
+    }
+
+    @Test
+    public void testReportsCacheUsage() {
+        final List<CronMetrics.Cache> events = new ArrayList<>();
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX), new CronMetrics() {
+            @Override
+            public void cacheHit(final Cron cron, final CronMetrics.Cache cache) {
+                events.add(cache);
+            }
+
+            @Override
+            public void cacheMiss(final Cron cron, final CronMetrics.Cache cache) {
+                events.add(cache);
+            }
+        }, 10);
+        parser.parse("*/5 * * * *");
+        parser.parse("*/5 * * * *");
+        assertEquals(2, events.size());
+        assertEquals(CronMetrics.Cache.PARSED_CRONS, events.get(0));
+    }
+
+    @Test
+    public void testCachingDisabledByDefault() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        assertNotSame(parser.parse("0 1 * * *"), parser.parse("0 1 * * *"));
+        assertEquals(0, parser.getCacheHits());
+        assertEquals(0, parser.getCacheMisses());
+        assertThrows(IllegalArgumentException.class, () -> new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX), -1));
+    }
+}